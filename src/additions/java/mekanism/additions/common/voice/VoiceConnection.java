@@ -1,123 +1,162 @@
 package mekanism.additions.common.voice;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
 import java.net.Socket;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
 import mekanism.additions.common.MekanismAdditions;
 import mekanism.additions.common.item.ItemWalkieTalkie;
-import mekanism.common.Mekanism;
+import mekanism.additions.common.voice.VoiceFramePool.Frame;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.MinecraftServer;
 import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
-public class VoiceConnection extends Thread {
+/**
+ * Non-blocking connection of a single client to the voice server. All methods are called from the voice server's selector thread.
+ */
+public class VoiceConnection {
+
+    //Max number of frames that get queued for a client that can't keep up, once it is reached the oldest frame that hasn't started being sent gets dropped
+    private static final int MAX_QUEUED_FRAMES = 32;
 
     private final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
-    private DataOutputStream output;
-    private DataInputStream input;
-    private boolean open = true;
-    private final Socket socket;
+    //Large enough to hold any frame, including its length
+    private final ByteBuffer input = ByteBuffer.allocateDirect(2 + Short.MAX_VALUE);
+    private final Queue<Frame> outbound = new ArrayDeque<>();
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final long openedAt = System.currentTimeMillis();
+    private Frame writingFrame;
+    private ByteBuffer writing;
     private UUID uuid;
 
-    public VoiceConnection(Socket s) {
-        socket = s;
+    public VoiceConnection(SocketChannel channel, SelectionKey key) {
+        this.channel = channel;
+        this.key = key;
     }
 
-    @Override
-    public void run() {
-        try {
-            input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
-            output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
-            synchronized (MekanismAdditions.voiceManager) {
-                int retryCount = 0;
-                while (uuid == null && retryCount <= 100) {
-                    try {
-                        List<ServerPlayerEntity> l = Collections.synchronizedList(new ArrayList<>(server.getPlayerList().getPlayers()));
-
-                        for (ServerPlayerEntity playerMP : l) {
-                            String playerIP = playerMP.getPlayerIP();
-                            if (!server.isDedicatedServer() && playerIP.equals("local") && !MekanismAdditions.voiceManager.isFoundLocal()) {
-                                MekanismAdditions.voiceManager.setFoundLocal(true);
-                                uuid = playerMP.getUniqueID();
-                                break;
-                            } else if (playerIP.equals(socket.getInetAddress().getHostAddress())) {
-                                uuid = playerMP.getUniqueID();
-                                break;
-                            }
-                        }
-                        retryCount++;
-                        Thread.sleep(50);
-                    } catch (Exception ignored) {
-                    }
-                }
-
-                if (uuid == null) {
-                    Mekanism.logger.error("VoiceServer: Unable to trace connection's IP address.");
-                    kill();
-                    return;
-                } else {
-                    Mekanism.logger.info("VoiceServer: Traced IP in {} attempts.", retryCount);
-                }
+    /**
+     * Tries to find the player this connection belongs to. Until it is found nothing is read from the connection.
+     *
+     * @return {@code true} if the player was found.
+     */
+    boolean trace() {
+        List<ServerPlayerEntity> l = Collections.synchronizedList(new ArrayList<>(server.getPlayerList().getPlayers()));
+        Socket socket = channel.socket();
+        for (ServerPlayerEntity playerMP : l) {
+            String playerIP = playerMP.getPlayerIP();
+            if (!server.isDedicatedServer() && playerIP.equals("local") && !MekanismAdditions.voiceManager.isFoundLocal()) {
+                MekanismAdditions.voiceManager.setFoundLocal(true);
+                uuid = playerMP.getUniqueID();
+                break;
+            } else if (playerIP.equals(socket.getInetAddress().getHostAddress())) {
+                uuid = playerMP.getUniqueID();
+                break;
             }
-        } catch (Exception e) {
-            Mekanism.logger.error("VoiceServer: Error while starting server-based connection.", e);
-            open = false;
         }
+        if (uuid != null) {
+            key.interestOps(SelectionKey.OP_READ);
+            return true;
+        }
+        return false;
+    }
 
-        // Main client listen thread
-        new Thread(() -> {
-            while (open) {
-                try {
-                    short byteCount = VoiceConnection.this.input.readShort();
-                    byte[] audioData = new byte[byteCount];
-                    VoiceConnection.this.input.readFully(audioData);
-                    if (byteCount > 0) {
-                        MekanismAdditions.voiceManager.sendToPlayers(byteCount, audioData, VoiceConnection.this);
-                    }
-                } catch (Exception e) {
-                    open = false;
-                }
+    boolean isTraced() {
+        return uuid != null;
+    }
+
+    long getOpenedAt() {
+        return openedAt;
+    }
+
+    /**
+     * Reads what the client sent, and relays every complete frame.
+     */
+    void read(VoiceServerManager manager) throws IOException {
+        if (channel.read(input) == -1) {
+            throw new EOFException();
+        }
+        input.flip();
+        while (input.remaining() >= 2) {
+            int start = input.position();
+            short byteCount = input.getShort(start);
+            if (byteCount < 0) {
+                throw new IOException("Invalid audio frame length: " + byteCount);
+            } else if (input.remaining() < 2 + byteCount) {
+                //Wait for the rest of the frame
+                break;
             }
-            if (!open) {
-                kill();
+            input.position(start + 2);
+            if (byteCount > 0) {
+                manager.sendToPlayers(byteCount, input, this);
             }
-        }).start();
+            input.position(start + 2 + byteCount);
+        }
+        input.compact();
     }
 
-    private void kill() {
-        try {
-            if (input != null) {
-                input.close();
-            }
-            if (output != null) {
-                output.close();
+    /**
+     * Queues the given frame to be sent to the client.
+     */
+    void sendToPlayer(Frame frame) {
+        if (outbound.size() >= MAX_QUEUED_FRAMES) {
+            //The client can't keep up, drop the oldest audio rather than letting it fall further behind
+            outbound.remove().release();
+        }
+        frame.retain();
+        outbound.add(frame);
+        key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    }
+
+    /**
+     * Writes as much of the queued frames as the client accepts without blocking.
+     */
+    void flush() throws IOException {
+        while (true) {
+            if (writing == null) {
+                writingFrame = outbound.poll();
+                if (writingFrame == null) {
+                    //Everything got sent, stop waiting until we can write
+                    key.interestOps(SelectionKey.OP_READ);
+                    return;
+                }
+                writing = writingFrame.view();
             }
-            if (socket != null) {
-                socket.close();
+            channel.write(writing);
+            if (writing.hasRemaining()) {
+                //The socket's buffer is full, continue once it can be written to again
+                return;
             }
-            MekanismAdditions.voiceManager.removeConnection(this);
-        } catch (Exception e) {
-            Mekanism.logger.error("VoiceServer: Error while stopping server-based connection.", e);
+            writingFrame.release();
+            writingFrame = null;
+            writing = null;
         }
     }
 
-    public void sendToPlayer(short byteCount, byte[] audioData, VoiceConnection connection) {
-        if (!open) {
-            kill();
-        }
+    void close() {
+        key.cancel();
         try {
-            output.writeShort(byteCount);
-            output.write(audioData);
-            output.flush();
-        } catch (Exception e) {
-            Mekanism.logger.error("VoiceServer: Error while sending data to player.", e);
+            channel.close();
+        } catch (IOException ignored) {
+        }
+        if (writingFrame != null) {
+            writingFrame.release();
+            writingFrame = null;
+            writing = null;
+        }
+        Frame frame;
+        while ((frame = outbound.poll()) != null) {
+            frame.release();
         }
     }
 
@@ -145,7 +184,11 @@ public class VoiceConnection extends Thread {
         return 0;
     }
 
+    SocketAddress getRemoteAddress() {
+        return channel.socket().getRemoteSocketAddress();
+    }
+
     public ServerPlayerEntity getPlayer() {
-        return server.getPlayerList().getPlayerByUUID(uuid);
+        return uuid == null ? null : server.getPlayerList().getPlayerByUUID(uuid);
     }
-}
\ No newline at end of file
+}
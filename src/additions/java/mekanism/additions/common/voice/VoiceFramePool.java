@@ -0,0 +1,76 @@
+package mekanism.additions.common.voice;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Pool of direct buffers that audio frames get encoded into before they are relayed. Only used from the voice server's selector thread.
+ */
+class VoiceFramePool {
+
+    //Large enough for the frames the client sends, bigger frames get a buffer that isn't pooled
+    private static final int POOLED_FRAME_SIZE = 2 + 4_096;
+    private static final int MAX_POOLED = 256;
+
+    private final Deque<ByteBuffer> free = new ArrayDeque<>();
+
+    /**
+     * Encodes the next {@code length} bytes of the given buffer, prefixed by their length, into a frame that can be sent to any number of connections.
+     */
+    Frame encode(ByteBuffer data, int length) {
+        int size = 2 + length;
+        ByteBuffer buffer;
+        if (size > POOLED_FRAME_SIZE) {
+            buffer = ByteBuffer.allocateDirect(size);
+        } else if (free.isEmpty()) {
+            buffer = ByteBuffer.allocateDirect(POOLED_FRAME_SIZE);
+        } else {
+            buffer = free.pop();
+        }
+        buffer.clear();
+        buffer.putShort((short) length);
+        int limit = data.limit();
+        data.limit(data.position() + length);
+        buffer.put(data);
+        data.limit(limit);
+        buffer.flip();
+        return new Frame(buffer);
+    }
+
+    private void release(ByteBuffer buffer) {
+        if (buffer.capacity() == POOLED_FRAME_SIZE && free.size() < MAX_POOLED) {
+            free.push(buffer);
+        }
+    }
+
+    /**
+     * An encoded frame that is shared by all the connections it gets sent to. The buffer goes back to the pool once every connection released it.
+     */
+    class Frame {
+
+        private final ByteBuffer buffer;
+        private int references = 1;
+
+        private Frame(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        void retain() {
+            references++;
+        }
+
+        void release() {
+            if (--references == 0) {
+                VoiceFramePool.this.release(buffer);
+            }
+        }
+
+        /**
+         * @return a view of the encoded frame with its own position, for a single connection to write.
+         */
+        ByteBuffer view() {
+            return buffer.duplicate();
+        }
+    }
+}
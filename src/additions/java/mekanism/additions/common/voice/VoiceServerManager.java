@@ -1,52 +1,89 @@
 package mekanism.additions.common.voice;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.net.SocketException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.SelectorProvider;
+import java.util.Iterator;
 import java.util.Set;
 import mekanism.additions.common.config.MekanismAdditionsConfig;
+import mekanism.additions.common.voice.VoiceFramePool.Frame;
 import mekanism.common.Mekanism;
 
+/**
+ * Relays the audio of walkie talkies between clients. All connections are handled without blocking by a single selector thread, each frame is encoded once into a
+ * pooled buffer that is shared by everyone listening on the sender's channel, and clients that can't keep up only drop their own oldest frames.
+ */
 public class VoiceServerManager {
 
+    //How long a connection has to wait for the player it belongs to to be found before it gets closed
+    private static final long TRACE_TIMEOUT = 5_000;
+    //How often connections that haven't been traced yet retry finding their player
+    private static final long TRACE_INTERVAL = 50;
+
     private final Set<VoiceConnection> connections = new ObjectOpenHashSet<>();
-    private ServerSocket serverSocket;
-    private Thread listenThread;
+    private final VoiceFramePool framePool = new VoiceFramePool();
+    private final SelectorProvider selectorProvider;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
     private boolean foundLocal = false;
-    private boolean running;
+    private volatile boolean running;
+
+    public VoiceServerManager() {
+        this(SelectorProvider.provider());
+    }
+
+    /**
+     * @param selectorProvider Provider the selector and server channel are opened with, allows running the relay over channels other than the default ones, for
+     *                         example when load testing it.
+     */
+    VoiceServerManager(SelectorProvider selectorProvider) {
+        this.selectorProvider = selectorProvider;
+    }
 
     public void start() {
+        start(new InetSocketAddress(MekanismAdditionsConfig.additions.voicePort.get()));
+    }
+
+    void start(SocketAddress address) {
         Mekanism.logger.info("VoiceServer: Starting up server...");
         try {
+            selector = selectorProvider.openSelector();
+            serverChannel = selectorProvider.openServerSocketChannel();
+            serverChannel.configureBlocking(false);
+            serverChannel.bind(address);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
             running = true;
-            serverSocket = new ServerSocket(MekanismAdditionsConfig.additions.voicePort.get());
-            (listenThread = new ListenThread()).start();
-        } catch (Exception ignored) {
+            (selectorThread = new SelectorThread()).start();
+        } catch (Exception e) {
+            Mekanism.logger.error("VoiceServer: Error while starting server.", e);
+            closeServer();
         }
     }
 
     public void stop() {
-        try {
-            Mekanism.logger.info("VoiceServer: Shutting down server...");
-            try {
-                listenThread.interrupt();
-            } catch (Exception ignored) {
-            }
-            foundLocal = false;
+        Mekanism.logger.info("VoiceServer: Shutting down server...");
+        running = false;
+        if (selectorThread != null) {
+            selector.wakeup();
             try {
-                serverSocket.close();
-                serverSocket = null;
-            } catch (Exception ignored) {
+                selectorThread.join(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
-        } catch (Exception e) {
-            Mekanism.logger.error("VoiceServer: Error while shutting down server.", e);
+            selectorThread = null;
+        } else {
+            closeServer();
         }
-        running = false;
-    }
-
-    public void removeConnection(VoiceConnection connection) {
-        connections.remove(connection);
+        foundLocal = false;
     }
 
     public boolean isFoundLocal() {
@@ -57,7 +94,10 @@ public class VoiceServerManager {
         foundLocal = found;
     }
 
-    public void sendToPlayers(short byteCount, byte[] audioData, VoiceConnection connection) {
+    /**
+     * Relays the next {@code byteCount} bytes of the given buffer to everyone listening on the channel the sender is talking on.
+     */
+    void sendToPlayers(short byteCount, ByteBuffer audioData, VoiceConnection connection) {
         if (connection.getPlayer() == null) {
             return;
         }
@@ -65,34 +105,128 @@ public class VoiceServerManager {
         if (channel == 0) {
             return;
         }
+        Frame frame = null;
         for (VoiceConnection iterConn : connections) {
-            if (iterConn.getPlayer() != null && iterConn != connection && iterConn.canListen(channel)) {
-                iterConn.sendToPlayer(byteCount, audioData, connection);
+            if (iterConn != connection && iterConn.getPlayer() != null && iterConn.canListen(channel)) {
+                if (frame == null) {
+                    //Only encode the frame if someone is listening
+                    frame = framePool.encode(audioData, byteCount);
+                }
+                iterConn.sendToPlayer(frame);
+            }
+        }
+        if (frame != null) {
+            frame.release();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            //Don't read anything until we know which player the connection belongs to, see traceConnections
+            SelectionKey key = channel.register(selector, 0);
+            VoiceConnection connection = new VoiceConnection(channel, key);
+            key.attach(connection);
+            connections.add(connection);
+            Mekanism.logger.info("VoiceServer: Accepted new connection.");
+        }
+    }
+
+    private void traceConnections() {
+        long now = System.currentTimeMillis();
+        Iterator<VoiceConnection> iterator = connections.iterator();
+        while (iterator.hasNext()) {
+            VoiceConnection connection = iterator.next();
+            if (!connection.isTraced()) {
+                boolean traced;
+                try {
+                    traced = connection.trace();
+                } catch (Exception e) {
+                    traced = false;
+                }
+                if (traced) {
+                    Mekanism.logger.info("VoiceServer: Traced IP in {} ms.", now - connection.getOpenedAt());
+                } else if (now - connection.getOpenedAt() > TRACE_TIMEOUT) {
+                    Mekanism.logger.error("VoiceServer: Unable to trace connection's IP address.");
+                    connection.close();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        VoiceConnection connection = (VoiceConnection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                connection.read(this);
             }
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+        } catch (EOFException e) {
+            Mekanism.logger.info("VoiceServer: Connection from {} was closed.", connection.getRemoteAddress());
+            connection.close();
+            connections.remove(connection);
+        } catch (Exception e) {
+            Mekanism.logger.error("VoiceServer: Error while handling connection from {}.", connection.getRemoteAddress(), e);
+            connection.close();
+            connections.remove(connection);
+        }
+    }
+
+    private void closeServer() {
+        for (VoiceConnection connection : connections) {
+            connection.close();
+        }
+        connections.clear();
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+                serverChannel = null;
+            }
+            if (selector != null) {
+                selector.close();
+                selector = null;
+            }
+        } catch (Exception e) {
+            Mekanism.logger.error("VoiceServer: Error while shutting down server.", e);
         }
     }
 
-    private class ListenThread extends Thread {
+    private class SelectorThread extends Thread {
 
-        private ListenThread() {
+        private SelectorThread() {
             setDaemon(true);
-            setName("VoiceServer Listen Thread");
+            setName("VoiceServer Selector Thread");
         }
 
         @Override
         public void run() {
             while (running) {
                 try {
-                    Socket s = serverSocket.accept();
-                    VoiceConnection connection = new VoiceConnection(s);
-                    connection.start();
-                    connections.add(connection);
-                    Mekanism.logger.info("VoiceServer: Accepted new connection.");
-                } catch (SocketException | NullPointerException ignored) {
+                    selector.select(TRACE_INTERVAL);
+                    Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                    while (iterator.hasNext()) {
+                        SelectionKey key = iterator.next();
+                        iterator.remove();
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            handle(key);
+                        }
+                    }
+                    traceConnections();
                 } catch (Exception e) {
-                    Mekanism.logger.error("VoiceServer: Error while accepting connection.", e);
+                    Mekanism.logger.error("VoiceServer: Error while handling connections.", e);
                 }
             }
+            closeServer();
         }
     }
-}
\ No newline at end of file
+}
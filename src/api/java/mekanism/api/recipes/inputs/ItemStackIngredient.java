@@ -6,6 +6,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nonnull;
@@ -140,6 +141,16 @@ public abstract class ItemStackIngredient implements InputIngredient<@NonNull It
             this.amount = amount;
         }
 
+        /**
+         * @return the vanilla ingredient backing this ingredient.
+         *
+         * @apiNote Do not modify the returned ingredient.
+         */
+        @Nonnull
+        public Ingredient getInputRaw() {
+            return ingredient;
+        }
+
         @Override
         public boolean test(@Nonnull ItemStack stack) {
             return testType(stack) && stack.getCount() >= amount;
@@ -214,6 +225,13 @@ public abstract class ItemStackIngredient implements InputIngredient<@NonNull It
             this.ingredients = ingredients;
         }
 
+        /**
+         * @return the ingredients that make up this ingredient.
+         */
+        public List<ItemStackIngredient> getIngredients() {
+            return Collections.unmodifiableList(Arrays.asList(ingredients));
+        }
+
         @Override
         public boolean test(@Nonnull ItemStack stack) {
             return Arrays.stream(ingredients).anyMatch(ingredient -> ingredient.test(stack));
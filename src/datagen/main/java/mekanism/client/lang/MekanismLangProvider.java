@@ -612,6 +612,8 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_RETROGEN_CHUNK_QUEUED, "Queued chunk (%s) in %s for retrogen.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_DISABLED, "Retrogen is disabled, please enable it in the config.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_FAILURE, "Failed to queue any chunks for retrogen.");
+        add(MekanismLang.COMMAND_STATS_PATH_CACHE, "Transporter path cache: %s paths (%s nodes), %s hits, %s misses, %s evictions.");
+        add(MekanismLang.COMMAND_STATS_NETWORKS, "Transmitter networks last tick: %s active, %s sleeping.");
         //Tooltip stuff
         add(MekanismLang.MODE, "Mode: %s");
         add(MekanismLang.FIRE_MODE, "Fire Mode: %s");
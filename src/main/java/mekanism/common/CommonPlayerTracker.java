@@ -2,6 +2,7 @@ package mekanism.common;
 
 import mekanism.common.block.BlockCardboardBox;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.gear.ExcavationJobs;
 import mekanism.common.lib.radiation.capability.DefaultRadiationEntity;
 import mekanism.common.network.PacketClearRecipeCache;
 import mekanism.common.network.PacketPlayerData;
@@ -49,6 +50,7 @@ public class CommonPlayerTracker {
         PlayerEntity player = event.getPlayer();
         Mekanism.playerState.clearPlayer(player.getUniqueID(), false);
         Mekanism.playerState.clearPlayerServerSideOnly(player.getUniqueID());
+        ExcavationJobs.cancel(player.getUniqueID());
     }
 
     @SubscribeEvent
@@ -110,6 +112,9 @@ public class CommonPlayerTracker {
         // This is just how it used to be in 1.12
         if (event.getEntity() instanceof ItemEntity && monitoringCardboardBox) {
             event.setCanceled(true);
+        } else if (ExcavationJobs.captureDrop(event.getEntity())) {
+            //The drop got merged into the drops of the vein mining that caused it
+            event.setCanceled(true);
         }
     }
 }
\ No newline at end of file
@@ -6,8 +6,13 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Random;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.gear.ExcavationJobs;
+import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.lib.chunkloading.ChunkManager;
 import mekanism.common.lib.frequency.FrequencyManager;
+import mekanism.common.lib.multiblock.FormationQueue;
+import mekanism.common.network.TileUpdateScheduler;
+import mekanism.common.tile.base.TileTickBudget;
 import mekanism.common.world.GenHandler;
 import net.minecraft.util.RegistryKey;
 import net.minecraft.util.ResourceLocation;
@@ -78,6 +83,11 @@ public class CommonWorldTickHandler {
     private void serverTick() {
         FrequencyManager.tick();
         Mekanism.radiationManager.tickServer();
+        TransporterManager.clearPredictions();
+        ExcavationJobs.tick();
+        FormationQueue.tick();
+        TileUpdateScheduler.tick();
+        TileTickBudget.reset();
     }
 
     private void tickEnd(ServerWorld world) {
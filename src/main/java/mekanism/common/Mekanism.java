@@ -33,18 +33,22 @@ import mekanism.common.content.boiler.BoilerMultiblockData;
 import mekanism.common.content.boiler.BoilerValidator;
 import mekanism.common.content.evaporation.EvaporationMultiblockData;
 import mekanism.common.content.evaporation.EvaporationValidator;
+import mekanism.common.content.gear.ExcavationJobs;
 import mekanism.common.content.gear.Modules;
 import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.content.matrix.MatrixValidator;
+import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.network.BoxedChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
+import mekanism.common.content.qio.ItemSearchIndex;
 import mekanism.common.content.sps.SPSCache;
 import mekanism.common.content.sps.SPSMultiblockData;
 import mekanism.common.content.sps.SPSValidator;
 import mekanism.common.content.tank.TankCache;
 import mekanism.common.content.tank.TankMultiblockData;
 import mekanism.common.content.tank.TankValidator;
+import mekanism.common.content.teleporter.TeleporterEntityIndex;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.entity.EntityRobit;
@@ -54,12 +58,14 @@ import mekanism.common.item.block.machine.ItemBlockFluidTank.FluidTankItemDispen
 import mekanism.common.lib.Version;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.frequency.FrequencyType;
+import mekanism.common.lib.multiblock.FormationQueue;
 import mekanism.common.lib.multiblock.MultiblockCache;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.network.PacketHandler;
 import mekanism.common.network.PacketTransmitterUpdate;
+import mekanism.common.network.TileUpdateScheduler;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.bin.BinInsertRecipe;
 import mekanism.common.recipe.condition.ModVersionLoadedCondition;
@@ -186,6 +192,9 @@ public class Mekanism {
         MinecraftForge.EVENT_BUS.addListener(this::serverStopped);
         MinecraftForge.EVENT_BUS.addListener(EventPriority.LOWEST, this::addReloadListenersLowest);
         MinecraftForge.EVENT_BUS.addListener(BinInsertRecipe::onCrafting);
+        MinecraftForge.EVENT_BUS.addListener(ThreadMinerSearch::onBlockChanged);
+        MinecraftForge.EVENT_BUS.addListener(TeleporterEntityIndex::onEnteringChunk);
+        MinecraftForge.EVENT_BUS.addListener(TileUpdateScheduler::onChunkWatch);
         MinecraftForge.EVENT_BUS.addListener(this::onVanillaTagsReload);
         MinecraftForge.EVENT_BUS.addListener(this::onCustomTagsReload);
         MinecraftForge.EVENT_BUS.addListener(EventPriority.HIGH, GenHandler::onBiomeLoad);
@@ -257,10 +266,14 @@ public class Mekanism {
 
     private void onVanillaTagsReload(TagsUpdatedEvent.VanillaTagTypes event) {
         TagCache.resetVanillaTagCaches();
+        ItemSearchIndex.invalidateAll();
+        MekanismRecipeType.clearInputIndices();
     }
 
     private void onCustomTagsReload(TagsUpdatedEvent.CustomTagTypes event) {
         TagCache.resetCustomTagCaches();
+        //Chemical tags are custom tag types, so inputs matched by them need their indices rebuilt as well
+        MekanismRecipeType.clearInputIndices();
     }
 
     private void addReloadListenersLowest(AddReloadListenerEvent event) {
@@ -288,8 +301,13 @@ public class Mekanism {
         //Reset consistent managers
         radiationManager.reset();
         MultiblockManager.reset();
+        FormationQueue.reset();
+        ExcavationJobs.reset();
+        TileUpdateScheduler.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
+        ThreadMinerSearch.resetTracking();
+        TeleporterEntityIndex.reset();
         PathfinderCache.reset();
         TransmitterNetworkRegistry.reset();
     }
@@ -399,6 +417,7 @@ public class Mekanism {
     }
 
     private void onWorldUnload(WorldEvent.Unload event) {
+        FormationQueue.onWorldUnload(event.getWorld());
         // Make sure the global fake player drops its reference to the World
         // when the server shuts down
         if (event.getWorld() instanceof ServerWorld) {
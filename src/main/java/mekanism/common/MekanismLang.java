@@ -140,6 +140,8 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_RETROGEN_CHUNK_QUEUED("command", "retrogen.chunk_queued"),
     COMMAND_ERROR_RETROGEN_DISABLED("command", "error.retrogen.disabled"),
     COMMAND_ERROR_RETROGEN_FAILURE("command", "error.retrogen.failure"),
+    COMMAND_STATS_PATH_CACHE("command", "stats.path_cache"),
+    COMMAND_STATS_NETWORKS("command", "stats.networks"),
     //Transmission types
     TRANSMISSION_TYPE_ENERGY("transmission", "energy"),
     TRANSMISSION_TYPE_FLUID("transmission", "fluids"),
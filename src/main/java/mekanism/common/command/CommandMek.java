@@ -12,6 +12,8 @@ import mekanism.api.MekanismAPI;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import net.minecraft.command.CommandSource;
 import net.minecraft.command.Commands;
@@ -38,6 +40,7 @@ public class CommandMek {
               .then(DebugCommand.register())
               .then(ForceRetrogenCommand.register())
               .then(RadiationCommand.register())
+              .then(StatsCommand.register())
               .then(TestRulesCommand.register())
               .then(TpCommand.register())
               .then(TppopCommand.register());
@@ -56,6 +59,24 @@ public class CommandMek {
         }
     }
 
+    private static class StatsCommand {
+
+        static ArgumentBuilder<CommandSource, ?> register() {
+            return Commands.literal("stats")
+                  .requires(cs -> cs.hasPermissionLevel(2))
+                  .executes(ctx -> {
+                      CommandSource source = ctx.getSource();
+                      source.sendFeedback(MekanismLang.COMMAND_STATS_PATH_CACHE.translateColored(EnumColor.GRAY, EnumColor.INDIGO, PathfinderCache.getCachedPathCount(),
+                            EnumColor.INDIGO, PathfinderCache.getCachedNodeCount(), EnumColor.INDIGO, PathfinderCache.getHits(), EnumColor.INDIGO,
+                            PathfinderCache.getMisses(), EnumColor.INDIGO, PathfinderCache.getEvictions()), false);
+                      TransmitterNetworkRegistry registry = TransmitterNetworkRegistry.getInstance();
+                      source.sendFeedback(MekanismLang.COMMAND_STATS_NETWORKS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, registry.getActiveNetworkCount(),
+                            EnumColor.INDIGO, registry.getSleepingNetworkCount()), false);
+                      return 0;
+                  });
+        }
+    }
+
     private static class TestRulesCommand {
 
         static ArgumentBuilder<CommandSource, ?> register() {
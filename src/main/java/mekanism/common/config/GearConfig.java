@@ -34,6 +34,7 @@ public class GearConfig extends BaseMekanismConfig {
     public final CachedFloatingLongValue disassemblerEnergyUsageWeapon;
     public final CachedIntValue disassemblerMiningRange;
     public final CachedIntValue disassemblerMiningCount;
+    public final CachedIntValue veinMiningBlocksPerTick;
     public final CachedBooleanValue disassemblerSlowMode;
     public final CachedBooleanValue disassemblerFastMode;
     public final CachedBooleanValue disassemblerVeinMining;
@@ -132,6 +133,8 @@ public class GearConfig extends BaseMekanismConfig {
               .define("miningRange", 10));
         disassemblerMiningCount = CachedIntValue.wrap(this, builder.comment("The max Atomic Disassembler Vein Mining Block Count.")
               .define("miningCount", 128));
+        veinMiningBlocksPerTick = CachedIntValue.wrap(this, builder.comment("The max number of blocks the Atomic Disassembler and Meka-Tool break per tick for each player when vein mining. Larger veins get mined over multiple ticks.")
+              .defineInRange("miningBlocksPerTick", 16, 1, 1_024));
         disassemblerSlowMode = CachedBooleanValue.wrap(this, builder.comment("Enable the 'Slow' mode for the Atomic Disassembler.")
               .define("slowMode", true));
         disassemblerFastMode = CachedBooleanValue.wrap(this, builder.comment("Enable the 'Fast' mode for the Atomic Disassembler.")
@@ -25,6 +25,8 @@ public class GeneralConfig extends BaseMekanismConfig {
 
     private static final String EJECT_CATEGORY = "auto_eject";
     private static final String MINER_CATEGORY = "digital_miner";
+    private static final String TRANSPORTER_CATEGORY = "logistical_transporter";
+    private static final String QIO_CATEGORY = "qio";
     private static final String LASER_SETTINGS = "laser";
     private static final String PUMP_CATEGORY = "pump";
     private static final String ENTANGLOPORTER_CATEGORY = "quantum_entangloporter";
@@ -34,6 +36,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
+    private static final String MULTIBLOCK_CATEGORY = "multiblock";
 
     private final ForgeConfigSpec configSpec;
 
@@ -42,6 +45,11 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue blockDeactivationDelay;
     public final CachedConfigValue<List<String>> cardboardModBlacklist;
     public final CachedBooleanValue transmitterAlloyUpgrade;
+    public final CachedIntValue maxNetworkSleepTicks;
+    public final CachedIntValue nonCriticalSyncInterval;
+    public final CachedIntValue tileUpdateInterval;
+    public final CachedIntValue maxTileSleepTicks;
+    public final CachedIntValue tileWakeCheckBudget;
     public final CachedIntValue maxUpgradeMultiplier;
     public final CachedDoubleValue boilerWaterConductivity;
     public final CachedDoubleValue heatPerFuelTick;
@@ -49,6 +57,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedDoubleValue superheatingHeatTransfer;
     public final CachedEnumValue<TempType> tempUnit;
     public final CachedIntValue maxSolarNeutronActivatorRate;
+    //Multiblock
+    public final CachedIntValue multiblockFormationBudget;
     //Auto eject
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
@@ -83,6 +93,13 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue minerSilkMultiplier;
     public final CachedIntValue minerMaxRadius;
     public final CachedIntValue minerTicksPerMine;
+    public final CachedIntValue minerSearchThreads;
+    //Logistical Transporter
+    public final CachedIntValue transporterPathCacheSize;
+    public final CachedBooleanValue transporterMultiTargetSearch;
+    //QIO
+    public final CachedIntValue qioViewerSyncInterval;
+    public final CachedIntValue qioDriveSaveInterval;
     //Laser
     public final CachedBooleanValue aestheticWorldDamage;
     public final CachedIntValue laserRange;
@@ -125,6 +142,16 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("cardboardModBlacklist", new ArrayList<>()));
         transmitterAlloyUpgrade = CachedBooleanValue.wrap(this, builder.comment("Allow right clicking on Cables/Pipes/Tubes with alloys to upgrade the tier.")
               .define("transmitterAlloyUpgrade", true));
+        maxNetworkSleepTicks = CachedIntValue.wrap(this, builder.comment("Maximum number of ticks an idle energy, fluid or chemical network waits before checking if its acceptors can accept anything again. Networks with empty buffers sleep until something is inserted or they change. Set to zero to always update every network every tick.")
+              .defineInRange("maxNetworkSleepTicks", 20, 0, 1_200));
+        nonCriticalSyncInterval = CachedIntValue.wrap(this, builder.comment("Number of ticks between checking values of open GUIs that aren't time critical, such as stored energy, for changes to sync to the players viewing them. Other values are checked every tick.")
+              .defineInRange("nonCriticalSyncInterval", 2, 1, 20));
+        tileUpdateInterval = CachedIntValue.wrap(this, builder.comment("Number of ticks that update requests of blocks are collected for before the changes are sent to nearby players. Repeated requests of the same block within this window are merged into a single update.")
+              .defineInRange("tileUpdateInterval", 1, 1, 20));
+        maxTileSleepTicks = CachedIntValue.wrap(this, builder.comment("Maximum number of ticks an idle machine sleeps before checking if it can start processing again. Machines are woken up early when their contents or redstone state change.")
+              .defineInRange("maxTileSleepTicks", 20, 1, 1_200));
+        tileWakeCheckBudget = CachedIntValue.wrap(this, builder.comment("Number of microseconds machines may spend updating each tick before idle machines postpone checking if they can start processing again to the next tick. Machines that are processing always update.")
+              .defineInRange("tileWakeCheckBudget", 10_000, 0, 50_000));
         //If this is less than 1, upgrades make machines worse. If less than 0, I don't even know.
         maxUpgradeMultiplier = CachedIntValue.wrap(this, builder.comment("Base factor for working out machine performance with upgrades - UpgradeModifier * (UpgradesInstalled/UpgradesPossible).")
               .defineInRange("maxUpgradeMultiplier", 10, 1, Integer.MAX_VALUE));
@@ -141,6 +168,11 @@ public class GeneralConfig extends BaseMekanismConfig {
         maxSolarNeutronActivatorRate = CachedIntValue.wrap(this, builder.comment("Peak processing rate for the Solar Neutron Activator. Note: It can go higher than this value in some extreme environments.")
               .define("maxSolarNeutronActivatorRate", 64));
 
+        builder.comment("Multiblock Settings").push(MULTIBLOCK_CATEGORY);
+        multiblockFormationBudget = CachedIntValue.wrap(this, builder.comment("Maximum number of microseconds spent forming multiblocks each tick. Multiblocks that don't fit in the budget are formed in the following ticks. At least one multiblock is always formed per tick.")
+              .defineInRange("formationBudget", 5_000, 0, 50_000));
+        builder.pop();
+
         builder.comment("Auto Eject Settings").push(EJECT_CATEGORY);
         fluidAutoEjectRate = CachedIntValue.wrap(this, builder.comment("Rate at which fluid gets auto ejected from tiles.")
               .define("fluid", 1_024));
@@ -215,6 +247,22 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("maxRadius", 32, 1, Integer.MAX_VALUE));
         minerTicksPerMine = CachedIntValue.wrap(this, builder.comment("Number of ticks required to mine a single block with a Digital Miner (without any upgrades).")
               .defineInRange("ticksPerMine", 80, 1, Integer.MAX_VALUE));
+        minerSearchThreads = CachedIntValue.wrap(this, builder.comment("Number of threads shared by all Digital Miners for searching their area for blocks to mine.")
+              .defineInRange("searchThreads", 2, 1, 32));
+        builder.pop();
+
+        builder.comment("Logistical Transporter Settings").push(TRANSPORTER_CATEGORY);
+        transporterPathCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of path nodes (summed across all cached paths) kept in the logistical transporter path cache. The least recently used paths are evicted first.")
+              .defineInRange("pathCacheSize", 100_000, 0, Integer.MAX_VALUE));
+        transporterMultiTargetSearch = CachedBooleanValue.wrap(this, builder.comment("If enabled, logistical transporters find paths to all possible destinations with a single search instead of one search per destination, stopping as soon as no remaining destination can beat the best path found.")
+              .define("multiTargetSearch", true));
+        builder.pop();
+
+        builder.comment("QIO Settings").push(QIO_CATEGORY);
+        qioViewerSyncInterval = CachedIntValue.wrap(this, builder.comment("Number of ticks that changes to the items in a QIO frequency are collected for before they are sent to players viewing the frequency's items.")
+              .defineInRange("viewerSyncInterval", 2, 1, 20));
+        qioDriveSaveInterval = CachedIntValue.wrap(this, builder.comment("Maximum number of ticks between changes to the items in a QIO drive and the changed items being written to the drive.")
+              .defineInRange("driveSaveInterval", 100, 1, 6_000));
         builder.pop();
 
         builder.comment("Laser Settings").push(LASER_SETTINGS);
@@ -0,0 +1,244 @@
+package mekanism.common.content.gear;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import mekanism.api.energy.IEnergyContainer;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.PacketLightningRender;
+import mekanism.common.network.PacketLightningRender.LightningPreset;
+import mekanism.common.util.StorageUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.ExperienceOrbEntity;
+import net.minecraft.entity.item.ItemEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.World;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+/**
+ * Runs the vein mining of the Atomic Disassembler and the Meka-Tool spread over multiple ticks. Each player has a queue of excavation jobs, and the current job of each
+ * player finds the blocks of the vein incrementally and breaks at most the configured number of blocks per tick. The drops of the blocks broken in a tick are merged
+ * and dropped at the block the player mined. Jobs are cancelled when the player logs out, stops holding the tool, or the tool runs out of energy.
+ */
+public class ExcavationJobs {
+
+    private static final Map<UUID, Queue<ExcavationJob>> jobs = new Object2ObjectOpenHashMap<>();
+    //The job that is currently breaking blocks, drops that get spawned while it is set are given to the job instead
+    @Nullable
+    private static ExcavationJob capturingJob;
+
+    private ExcavationJobs() {
+    }
+
+    /**
+     * Queues vein mining the blocks connected to the given position that are the same block as the given state.
+     *
+     * @param maxRange Maximum distance from the start position that blocks are mined in, or {@code -1} for no limit.
+     * @param breaker  Breaks a single block of the vein, charging the tool for it.
+     */
+    public static void queue(ServerPlayerEntity player, ItemStack stack, BlockState state, BlockPos pos, int maxRange, IBlockBreaker breaker) {
+        jobs.computeIfAbsent(player.getUniqueID(), uuid -> new ArrayDeque<>()).add(new ExcavationJob(player, stack, state.getBlock(), pos, maxRange, breaker));
+    }
+
+    public static void tick() {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        int blocksPerTick = MekanismConfig.gear.veinMiningBlocksPerTick.get();
+        Iterator<Queue<ExcavationJob>> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            Queue<ExcavationJob> playerJobs = iterator.next();
+            ExcavationJob job = playerJobs.peek();
+            if (job != null && job.tick(blocksPerTick)) {
+                playerJobs.poll();
+            }
+            if (playerJobs.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Cancels all excavation jobs of the given player.
+     */
+    public static void cancel(UUID player) {
+        jobs.remove(player);
+    }
+
+    public static void reset() {
+        jobs.clear();
+        capturingJob = null;
+    }
+
+    /**
+     * Gives drops that get spawned while a job is breaking blocks to the job, so that they can be merged.
+     *
+     * @return {@code true} if the entity was captured and should not be added to the world.
+     */
+    public static boolean captureDrop(Entity entity) {
+        if (capturingJob != null && entity.world == capturingJob.world) {
+            if (entity instanceof ItemEntity) {
+                capturingJob.addDrop(((ItemEntity) entity).getItem());
+                return true;
+            } else if (entity instanceof ExperienceOrbEntity) {
+                capturingJob.experience += ((ExperienceOrbEntity) entity).getXpValue();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @FunctionalInterface
+    public interface IBlockBreaker {
+
+        /**
+         * Tries to break the block at the given position, using energy from the given container.
+         */
+        void breakBlock(ServerPlayerEntity player, IEnergyContainer energyContainer, BlockPos pos);
+    }
+
+    private static class ExcavationJob {
+
+        private final ServerPlayerEntity player;
+        private final World world;
+        private final ItemStack stack;
+        private final Block startBlock;
+        private final BlockPos start;
+        private final int maxRange;
+        private final int maxCount;
+        private final IBlockBreaker breaker;
+        private final LongArrayFIFOQueue open = new LongArrayFIFOQueue();
+        private final LongOpenHashSet found = new LongOpenHashSet();
+        private final List<ItemStack> drops = new ArrayList<>();
+        private int experience;
+
+        private ExcavationJob(ServerPlayerEntity player, ItemStack stack, Block startBlock, BlockPos start, int maxRange, IBlockBreaker breaker) {
+            this.player = player;
+            this.world = player.world;
+            this.stack = stack;
+            this.startBlock = startBlock;
+            this.start = start.toImmutable();
+            this.maxRange = maxRange;
+            this.maxCount = MekanismConfig.gear.disassemblerMiningCount.get();
+            this.breaker = breaker;
+            long packedStart = this.start.toLong();
+            open.enqueue(packedStart);
+            found.add(packedStart);
+        }
+
+        /**
+         * @return {@code true} if the job is done, either because the whole vein got mined or because it can't continue.
+         */
+        private boolean tick(int blocksPerTick) {
+            if (player.removed || player.world != world || player.getHeldItemMainhand() != stack) {
+                //The player left, or is no longer holding the tool that started the job
+                return true;
+            }
+            IEnergyContainer energyContainer = StorageUtils.getEnergyContainer(stack, 0);
+            if (energyContainer == null) {
+                return true;
+            }
+            capturingJob = this;
+            try {
+                BlockPos.Mutable mutable = new BlockPos.Mutable();
+                int broken = 0;
+                while (broken < blocksPerTick && !open.isEmpty()) {
+                    if (energyContainer.isEmpty()) {
+                        //Out of energy, stop mining
+                        open.clear();
+                        break;
+                    }
+                    BlockPos pos = BlockPos.fromLong(open.dequeueLong());
+                    //Find more of the vein before breaking the block, so that the block is still there to connect to its neighbors
+                    findNeighbors(pos, mutable);
+                    if (!pos.equals(start)) {
+                        //Note: The block the player mined gets broken normally. Make sure the block didn't change since we found it
+                        Optional<BlockState> state = WorldUtils.getBlockState(world, pos);
+                        if (state.isPresent() && state.get().getBlock() == startBlock) {
+                            breaker.breakBlock(player, energyContainer, pos);
+                            broken++;
+                        }
+                    }
+                }
+            } finally {
+                capturingJob = null;
+            }
+            dropCaptured();
+            return open.isEmpty();
+        }
+
+        private void findNeighbors(BlockPos pos, BlockPos.Mutable mutable) {
+            if (found.size() >= maxCount) {
+                return;
+            }
+            for (int x = -1; x <= 1; x++) {
+                for (int y = -1; y <= 1; y++) {
+                    for (int z = -1; z <= 1; z++) {
+                        mutable.setPos(pos.getX() + x, pos.getY() + y, pos.getZ() + z);
+                        long packed = mutable.toLong();
+                        if (!found.contains(packed) && (maxRange == -1 || WorldUtils.distanceBetween(start, mutable) <= maxRange)) {
+                            Optional<BlockState> state = WorldUtils.getBlockState(world, mutable);
+                            if (state.isPresent() && startBlock == state.get().getBlock()) {
+                                found.add(packed);
+                                open.enqueue(packed);
+                                //Note: We do this for all blocks we find/attempt to mine, not just ones we do mine, as it is a bit simpler
+                                // and also represents those blocks getting checked by the vein mining for potentially being able to be mined
+                                Mekanism.packetHandler.sendToAllTracking(new PacketLightningRender(LightningPreset.TOOL_AOE, Objects.hash(pos, mutable),
+                                      Vector3d.copyCentered(pos), Vector3d.copyCentered(mutable), 10), world, pos);
+                                if (found.size() >= maxCount) {
+                                    return;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private void addDrop(ItemStack drop) {
+            for (ItemStack stored : drops) {
+                if (drop.isEmpty()) {
+                    return;
+                }
+                int toMove = Math.min(drop.getCount(), stored.getMaxStackSize() - stored.getCount());
+                if (toMove > 0 && ItemHandlerHelper.canItemStacksStack(stored, drop)) {
+                    stored.grow(toMove);
+                    drop.shrink(toMove);
+                }
+            }
+            if (!drop.isEmpty()) {
+                drops.add(drop.copy());
+            }
+        }
+
+        private void dropCaptured() {
+            //Drop everything where the block the player mined was
+            for (ItemStack drop : drops) {
+                Block.spawnAsEntity(world, start, drop);
+            }
+            drops.clear();
+            while (experience > 0) {
+                int orbValue = ExperienceOrbEntity.getXPSplit(experience);
+                experience -= orbValue;
+                world.addEntity(new ExperienceOrbEntity(world, start.getX() + 0.5, start.getY() + 0.5, start.getZ() + 0.5, orbValue));
+            }
+        }
+    }
+}
@@ -35,6 +35,7 @@ public interface IModuleContainerItem {
                 module.onRemoved(false);
             } else {
                 ItemDataUtils.getCompound(stack, NBTConstants.MODULES).remove(type.getName());
+                Modules.invalidate(stack);
                 module.onRemoved(true);
             }
         }
@@ -51,6 +52,7 @@ public interface IModuleContainerItem {
                 ItemDataUtils.setCompound(stack, NBTConstants.MODULES, new CompoundNBT());
             }
             ItemDataUtils.getCompound(stack, NBTConstants.MODULES).put(type.getName(), new CompoundNBT());
+            Modules.invalidate(stack);
             Modules.load(stack, type).onAdded(true);
         }
     }
@@ -138,6 +138,8 @@ public abstract class Module {
 
         modulesTag.put(data.getName(), nbt);
         ItemDataUtils.setCompound(container, NBTConstants.MODULES, modulesTag);
+        //Make sure the next load sees the saved state
+        Modules.invalidate(container);
 
         if (callback != null) {
             callback.accept(container);
@@ -1,14 +1,18 @@
 package mekanism.common.content.gear;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.IHasTranslationKey;
 import mekanism.api.text.ILangEntry;
@@ -50,6 +54,9 @@ public class Modules {
     private static final Map<String, ModuleData<?>> MODULES = new Object2ObjectOpenHashMap<>();
     private static final Map<Item, Set<ModuleData<?>>> SUPPORTED_MODULES = new Object2ObjectOpenHashMap<>();
     private static final Map<ModuleData<?>, Set<Item>> SUPPORTED_CONTAINERS = new Object2ObjectOpenHashMap<>();
+    //Decoded modules of containers, keyed by the identity of the container stack. The modules reference their container so weak keys alone never get collected,
+    // instead entries expire once the stack hasn't been used for a while, which happens to old stacks as soon as a synced copy replaces them
+    private static final Cache<ItemStack, DecodedModules> DECODED_MODULES = CacheBuilder.newBuilder().weakKeys().maximumSize(512).expireAfterAccess(1, TimeUnit.MINUTES).build();
 
     // Shared
     public static final ModuleData<ModuleEnergyUnit> ENERGY_UNIT = register("energy_unit",
@@ -146,20 +153,50 @@ public class Modules {
         return m != null && m.isEnabled();
     }
 
+    /**
+     * @apiNote The returned module is shared with other callers until the modules of the container change, so it should not be modified without saving it.
+     */
     public static <MODULE extends Module> MODULE load(ItemStack container, ModuleData<MODULE> type) {
-        if (!(container.getItem() instanceof IModuleContainerItem)) {
+        if (type == null || !(container.getItem() instanceof IModuleContainerItem)) {
             return null;
         }
+        return getDecoded(container).get(type);
+    }
 
-        CompoundNBT modulesTag = ItemDataUtils.getCompound(container, NBTConstants.MODULES);
-        return load(container, type, modulesTag);
+    /**
+     * @apiNote The returned list and modules are shared with other callers until the modules of the container change, so they should not be modified without saving
+     * them.
+     */
+    public static List<Module> loadAll(ItemStack container) {
+        if (!(container.getItem() instanceof IModuleContainerItem)) {
+            return Collections.emptyList();
+        }
+        return getDecoded(container).modules;
     }
 
-    private static <MODULE extends Module> MODULE load(ItemStack container, ModuleData<MODULE> type, CompoundNBT modulesTag) {
-        if (type == null || !modulesTag.contains(type.getName())) {
-            return null;
+    /**
+     * Drops the decoded modules of the given container, so that they are read from the container again the next time they are loaded. Must be called after changing
+     * the modules tag of a container in place.
+     */
+    static void invalidate(ItemStack container) {
+        DECODED_MODULES.invalidate(container);
+    }
+
+    private static DecodedModules getDecoded(ItemStack container) {
+        CompoundNBT modulesTag = ItemDataUtils.getCompound(container, NBTConstants.MODULES);
+        DecodedModules decoded = DECODED_MODULES.getIfPresent(container);
+        //If the modules tag got replaced, for example by the stack being synced, the modules we decoded are outdated
+        if (decoded == null || decoded.modulesTag != modulesTag) {
+            decoded = new DecodedModules(container, modulesTag);
+            if (!modulesTag.isEmpty()) {
+                //Note: When the container has no modules we get a new empty tag each time, so there is no point in caching it
+                DECODED_MODULES.put(container, decoded);
+            }
         }
+        return decoded;
+    }
 
+    private static <MODULE extends Module> MODULE decode(ItemStack container, ModuleData<MODULE> type, CompoundNBT modulesTag) {
         MODULE module = type.get(container);
         if (module == null) {
             Mekanism.logger.error("Attempted to load unknown module type '{}' from container {}", type, container.getItem());
@@ -169,15 +206,6 @@ public class Modules {
         return module;
     }
 
-    public static List<Module> loadAll(ItemStack container) {
-        if (!(container.getItem() instanceof IModuleContainerItem)) {
-            return new ArrayList<>();
-        }
-
-        CompoundNBT modulesTag = ItemDataUtils.getCompound(container, NBTConstants.MODULES);
-        return modulesTag.keySet().stream().map(name -> load(container, MODULES.get(name), modulesTag)).collect(Collectors.toList());
-    }
-
     private static <M extends Module> ModuleData<M> register(String name, ILangEntry langEntry, ILangEntry description, Supplier<M> moduleSupplier) {
         return register(name, langEntry, description, moduleSupplier, 1);
     }
@@ -204,6 +232,35 @@ public class Modules {
         SUPPORTED_CONTAINERS.clear();
     }
 
+    private static class DecodedModules {
+
+        private final CompoundNBT modulesTag;
+        private final Map<ModuleData<?>, Module> modulesByType;
+        private final List<Module> modules;
+
+        private DecodedModules(ItemStack container, CompoundNBT modulesTag) {
+            this.modulesTag = modulesTag;
+            modulesByType = new Reference2ObjectOpenHashMap<>(modulesTag.size());
+            List<Module> modules = new ArrayList<>(modulesTag.size());
+            for (String name : modulesTag.keySet()) {
+                ModuleData<?> type = MODULES.get(name);
+                if (type != null) {
+                    Module module = decode(container, type, modulesTag);
+                    if (module != null) {
+                        modulesByType.put(type, module);
+                        modules.add(module);
+                    }
+                }
+            }
+            this.modules = Collections.unmodifiableList(modules);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <MODULE extends Module> MODULE get(ModuleData<MODULE> type) {
+            return (MODULE) modulesByType.get(type);
+        }
+    }
+
     public static class ModuleData<MODULE extends Module> implements IHasTranslationKey {
 
         private final String name;
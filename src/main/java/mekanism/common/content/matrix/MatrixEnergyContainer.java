@@ -2,6 +2,8 @@ package mekanism.common.content.matrix;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -26,6 +28,11 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     private final Map<BlockPos, InductionProviderTier> providers = new Object2ObjectOpenHashMap<>();
     private final Map<BlockPos, IEnergyContainer> cells = new Object2ObjectOpenHashMap<>();
     private final Set<BlockPos> invalidPositions = new ObjectOpenHashSet<>();
+    //Cells in the order they get filled. All cells before the fill cursor are full, and all cells after the drain cursor are empty, so that adding or removing
+    // energy starts at the first cell that can actually accept or provide energy instead of walking past all the full or empty cells
+    private final List<IEnergyContainer> orderedCells = new ArrayList<>();
+    private int fillCursor;
+    private int drainCursor = -1;
 
     //TODO: Eventually we could look into extending FloatingLong to have a "BigInt" styled implementation that is used by the class
     // at the very least for keeping track of the cached values and rates
@@ -48,6 +55,10 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         //As we already have the two different variables just pass them instead of accessing world to get tile again
         MachineEnergyContainer<TileEntityInductionCell> energyContainer = cell.getEnergyContainer();
         cells.put(pos, energyContainer);
+        orderedCells.add(energyContainer);
+        if (!energyContainer.isEmpty()) {
+            drainCursor = orderedCells.size() - 1;
+        }
         storageCap = storageCap.plusEqual(energyContainer.getMaxEnergy());
         cachedTotal = cachedTotal.plusEqual(energyContainer.getEnergy());
     }
@@ -82,6 +93,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         tick();
         //And reset everything
         cells.clear();
+        orderedCells.clear();
+        fillCursor = 0;
+        drainCursor = -1;
         providers.clear();
         queuedOutput = FloatingLong.ZERO;
         queuedInput = FloatingLong.ZERO;
@@ -94,11 +108,19 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     public void tick() {
         if (!invalidPositions.isEmpty()) {
+            boolean removedCells = false;
             for (BlockPos invalidPosition : invalidPositions) {
-                cells.remove(invalidPosition);
+                removedCells |= cells.remove(invalidPosition) != null;
                 providers.remove(invalidPosition);
             }
             invalidPositions.clear();
+            if (removedCells) {
+                //Rebuild the fill order from the remaining cells and let the cursors find their place again
+                orderedCells.clear();
+                orderedCells.addAll(cells.values());
+                fillCursor = 0;
+                drainCursor = orderedCells.size() - 1;
+            }
         }
         int compare = queuedInput.compareTo(queuedOutput);
         if (compare < 0) {
@@ -116,33 +138,43 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private void addEnergy(FloatingLong energy) {
         cachedTotal = cachedTotal.plusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
+        for (int i = fillCursor, size = orderedCells.size(); i < size; i++) {
+            IEnergyContainer container = orderedCells.get(i);
             //Note: inserting into the cell's energy container handles marking the cell for saving if it changes
             FloatingLong remainder = container.insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
             if (remainder.smallerThan(energy)) {
                 //Our cell accepted at least some energy
-                if (remainder.isZero()) {
-                    //Check less than equal rather than just equal in case something went wrong
-                    // and break if we don't have any energy left to add
-                    break;
-                }
+                drainCursor = Math.max(drainCursor, i);
                 energy = remainder;
             }
+            if (i == fillCursor && !container.getEnergy().smallerThan(container.getMaxEnergy())) {
+                //Move the cursor past cells that are full
+                fillCursor++;
+            }
+            if (energy.isZero()) {
+                //Break if we don't have any energy left to add
+                break;
+            }
         }
     }
 
     private void removeEnergy(FloatingLong energy) {
         cachedTotal = cachedTotal.minusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
+        for (int i = drainCursor; i >= 0; i--) {
+            IEnergyContainer container = orderedCells.get(i);
             //Note: extracting from the cell's energy container handles marking the cell for saving if it changes
             FloatingLong extracted = container.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
             if (!extracted.isZero()) {
+                fillCursor = Math.min(fillCursor, i);
                 energy = energy.minusEqual(extracted);
-                if (energy.isZero()) {
-                    //Check less than equal rather than just equal in case something went wrong
-                    // and break if we don't need to remove any more energy
-                    break;
-                }
+            }
+            if (i == drainCursor && container.isEmpty()) {
+                //Move the cursor past cells that are empty
+                drainCursor--;
+            }
+            if (energy.isZero()) {
+                //Break if we don't need to remove any more energy
+                break;
             }
         }
     }
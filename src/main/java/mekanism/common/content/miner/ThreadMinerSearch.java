@@ -4,14 +4,29 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.util.WorldUtils;
@@ -19,24 +34,54 @@ import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.FlowingFluidBlock;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.RegistryKey;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.IWorld;
 import net.minecraft.world.Region;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.fluids.IFluidBlock;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Searches the area of a Digital Miner for blocks to mine. The area is split into chunk columns that are scanned in parallel on a shared, bounded pool of worker
+ * threads. The results of each column, along with which filter matches each block, are kept between searches so that a rescan only has to revisit the columns
+ * that had blocks change in them or that contain blocks whose filter match changed.
+ */
+public class ThreadMinerSearch {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static ThreadPoolExecutor executor;
+    /**
+     * Dimension -> packed chunk position -> searches that have cached results for that chunk.
+     */
+    private static final Map<RegistryKey<World>, Long2ObjectMap<Set<ThreadMinerSearch>>> trackedChunks = new Object2ObjectOpenHashMap<>();
 
     private final TileEntityDigitalMiner tile;
 
     public State state = State.IDLE;
 
-    private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
-    private final Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
-    private final Map<Block, MinerFilter<?>> acceptedItems = new Object2ObjectOpenHashMap<>();
+    /**
+     * Which filter (if any) matches each block we have come across, kept across searches and only reevaluated when the filters change.
+     */
+    private final Map<Block, FilterMatch> acceptedItems = new ConcurrentHashMap<>();
+    private final Long2ObjectMap<ChunkResult> chunkResults = new Long2ObjectOpenHashMap<>();
+    private final LongSet dirtyChunks = new LongOpenHashSet();
+    private final Queue<ChunkResult> completed = new ConcurrentLinkedQueue<>();
+    private AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger found = new AtomicInteger();
+    private List<MinerFilter<?>> lastFilters = new ArrayList<>();
+    private boolean lastInverse;
+    @Nullable
+    private RegistryKey<World> trackedDimension;
+    @Nullable
+    private BlockPos searchStart;
+    private int searchDiameter;
+    private int searchHeight;
+    private volatile int generation;
     private Region chunkCache;
 
-    public int found = 0;
-
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
         this.tile = tile;
     }
@@ -45,81 +90,368 @@ public class ThreadMinerSearch extends Thread {
         this.chunkCache = cache;
     }
 
-    @Override
-    public void run() {
-        state = State.SEARCHING;
-        List<MinerFilter<?>> filters = tile.getFilters();
-        if (!tile.inverse && filters.isEmpty()) {
+    /**
+     * Starts a search, only submitting the chunk columns that have no valid cached results.
+     */
+    public void start() {
+        if (state != State.IDLE) {
+            return;
+        }
+        List<MinerFilter<?>> filters = new ArrayList<>(tile.getFilters());
+        boolean inverse = tile.inverse;
+        if (!inverse && filters.isEmpty()) {
             state = State.FINISHED;
             return;
         }
-        BlockPos pos = tile.getStartingPos();
+        BlockPos start = tile.getStartingPos();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
-            }
-            BlockPos testPos = pos.add(i % diameter, i / diameter / diameter, (i / diameter) % diameter);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
-            }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir(chunkCache, testPos) || state.getBlockHardness(chunkCache, testPos) < 0) {
-                //Skip air and unbreakable blocks
-                continue;
-            }
-            info = state.getBlock();
-            if (info instanceof FlowingFluidBlock || info instanceof IFluidBlock) {
-                //Skip liquids
-                continue;
-            }
-            MinerFilter<?> filterFound = null;
-            if (acceptedItems.containsKey(info)) {
-                filterFound = acceptedItems.get(info);
-            } else {
-                ItemStack stack = new ItemStack(info);
-                if (tile.isReplaceStack(stack)) {
-                    continue;
-                }
-                for (MinerFilter<?> filter : filters) {
-                    if (filter.canFilter(state)) {
-                        filterFound = filter;
-                        break;
-                    }
+        int height = tile.getMaxY() - tile.getMinY() + 1;
+        RegistryKey<World> dimension = tile.getWorld().getDimensionKey();
+        if (!start.equals(searchStart) || diameter != searchDiameter || height != searchHeight || dimension != trackedDimension) {
+            //The area changed so none of the cached columns line up anymore
+            clearResults();
+            searchStart = start;
+            searchDiameter = diameter;
+            searchHeight = height;
+            track(dimension);
+        }
+        if (inverse != lastInverse) {
+            chunkResults.clear();
+            lastInverse = inverse;
+        }
+        if (!isSameFilters(filters)) {
+            invalidateChangedMatches(filters);
+            lastFilters = filters;
+        }
+        List<MinerFilter<?>> searchFilters = lastFilters;
+        //Capture the cache for the tasks, as resetting the search clears the field while they may still be running
+        Region region = chunkCache;
+        state = State.SEARCHING;
+        //Cancel any running search before resetting the count, so that its workers can't count anything for the new search
+        int currentGeneration = ++generation;
+        found.set(0);
+        for (long chunk : dirtyChunks) {
+            chunkResults.remove(chunk);
+        }
+        dirtyChunks.clear();
+        int endX = start.getX() + diameter - 1;
+        int endZ = start.getZ() + diameter - 1;
+        AtomicInteger searchPending = new AtomicInteger();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int chunkX = start.getX() >> 4; chunkX <= endX >> 4; chunkX++) {
+            for (int chunkZ = start.getZ() >> 4; chunkZ <= endZ >> 4; chunkZ++) {
+                long chunk = ChunkPos.asLong(chunkX, chunkZ);
+                ChunkResult result = chunkResults.get(chunk);
+                if (result == null) {
+                    int minX = Math.max(chunkX << 4, start.getX());
+                    int maxX = Math.min((chunkX << 4) + 15, endX);
+                    int minZ = Math.max(chunkZ << 4, start.getZ());
+                    int maxZ = Math.min((chunkZ << 4) + 15, endZ);
+                    tasks.add(() -> searchColumn(region, currentGeneration, searchPending, chunk, start, diameter, height, minX, maxX, minZ, maxZ, searchFilters, inverse));
+                } else {
+                    found.addAndGet(result.toMine.cardinality());
                 }
-                acceptedItems.put(info, filterFound);
             }
-            if (tile.inverse == (filterFound == null)) {
-                set(i, testPos);
-                replaceMap.put(i, filterFound);
-                found++;
+        }
+        if (tasks.isEmpty()) {
+            finish();
+            return;
+        }
+        searchPending.set(tasks.size());
+        pending = searchPending;
+        ThreadPoolExecutor pool = getExecutor();
+        for (Runnable task : tasks) {
+            pool.execute(task);
+        }
+    }
+
+    /**
+     * Called from the miner's server tick to collect the results of finished columns, and complete the search once all of them are done.
+     */
+    public void tick() {
+        if (state != State.SEARCHING) {
+            return;
+        }
+        ChunkResult result;
+        while ((result = completed.poll()) != null) {
+            if (result.generation == generation) {
+                chunkResults.put(result.chunk, result);
             }
         }
+        if (pending.get() == 0) {
+            finish();
+        }
+    }
 
+    private void finish() {
+        Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+        Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
+        int total = 0;
+        for (Long2ObjectMap.Entry<ChunkResult> entry : chunkResults.long2ObjectEntrySet()) {
+            ChunkResult result = entry.getValue();
+            if (!result.toMine.isEmpty()) {
+                //Copy the set as the miner clears bits from it as it mines
+                oresToMine.put(entry.getLongKey(), (BitSet) result.toMine.clone());
+                replaceMap.putAll(result.replaceMap);
+                total += result.toMine.cardinality();
+            }
+        }
         state = State.FINISHED;
+        found.set(total);
         tile.oresToMine = oresToMine;
         tile.replaceMap = replaceMap;
         chunkCache = null;
         tile.markDirty(false);
-        tile.cachedToMine = found;
+        tile.cachedToMine = total;
     }
 
-    public void set(int i, BlockPos pos) {
-        long chunk = WorldUtils.getChunkPosAsLong(pos);
-        oresToMine.computeIfAbsent(chunk, k -> new BitSet());
-        oresToMine.get(chunk).set(i);
+    private void searchColumn(Region region, int searchGeneration, AtomicInteger searchPending, long chunk, BlockPos start, int diameter, int height, int minX,
+          int maxX, int minZ, int maxZ, List<MinerFilter<?>> filters, boolean inverse) {
+        try {
+            ChunkResult result = new ChunkResult(searchGeneration, chunk);
+            int layerSize = diameter * diameter;
+            BlockPos minerPos = tile.getPos();
+            BlockPos.Mutable testPos = new BlockPos.Mutable();
+            for (int y = 0; y < height; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    if (searchGeneration != generation || tile.isRemoved()) {
+                        //The search got cancelled or the miner is no longer valid
+                        return;
+                    }
+                    for (int x = minX; x <= maxX; x++) {
+                        testPos.setPos(x, start.getY() + y, z);
+                        if (minerPos.equals(testPos)) {
+                            //Skip the miner itself
+                            continue;
+                        }
+                        BlockState state = region.getBlockState(testPos);
+                        if (state.isAir(region, testPos) || state.getBlockHardness(region, testPos) < 0) {
+                            //Skip air and unbreakable blocks
+                            continue;
+                        }
+                        Block info = state.getBlock();
+                        if (info instanceof FlowingFluidBlock || info instanceof IFluidBlock) {
+                            //Skip liquids
+                            continue;
+                        }
+                        if (state.hasTileEntity() && WorldUtils.getTileEntity(TileEntityBoundingBlock.class, region, testPos) != null) {
+                            //Skip any bounding blocks
+                            continue;
+                        }
+                        result.blocks.add(info);
+                        FilterMatch match = acceptedItems.get(info);
+                        if (match == null || match.filters != filters) {
+                            //Not seen yet, or it was last checked against a different set of filters
+                            match = FilterMatch.of(state, filters);
+                            acceptedItems.put(info, match);
+                        }
+                        if (!match.replaceTarget && inverse == (match.filter == null)) {
+                            int index = (x - start.getX()) + (z - start.getZ()) * diameter + y * layerSize;
+                            result.toMine.set(index);
+                            result.replaceMap.put(index, match.filter);
+                            if (searchGeneration == generation) {
+                                //Only count blocks while the search is still current, as the results of cancelled searches get discarded
+                                found.incrementAndGet();
+                            }
+                        }
+                    }
+                }
+            }
+            completed.add(result);
+        } catch (Exception e) {
+            Mekanism.logger.error("Error searching for blocks with Digital Miner at {}", tile.getPos(), e);
+        } finally {
+            searchPending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Compares the filters by identity rather than equality, as filter equality ignores the replace stack.
+     */
+    private boolean isSameFilters(List<MinerFilter<?>> filters) {
+        if (filters.size() != lastFilters.size()) {
+            return false;
+        }
+        for (int i = 0; i < filters.size(); i++) {
+            if (filters.get(i) != lastFilters.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reevaluates what each block we have seen matches against the new filters, and drops the cached columns that contain any block whose match changed.
+     */
+    private void invalidateChangedMatches(List<MinerFilter<?>> filters) {
+        Set<Block> changed = new ReferenceOpenHashSet<>();
+        for (Map.Entry<Block, FilterMatch> entry : acceptedItems.entrySet()) {
+            FilterMatch previous = entry.getValue();
+            FilterMatch match = FilterMatch.of(previous.state, filters);
+            if (match.filter != previous.filter || match.replaceTarget != previous.replaceTarget) {
+                changed.add(entry.getKey());
+                entry.setValue(match);
+            }
+        }
+        if (!changed.isEmpty()) {
+            chunkResults.values().removeIf(result -> {
+                for (Block block : changed) {
+                    if (result.blocks.contains(block)) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+        }
     }
 
+    /**
+     * Cancels any search that is in progress, while keeping the cached results of previous searches.
+     */
     public void reset() {
+        generation++;
+        completed.clear();
         state = State.IDLE;
         chunkCache = null;
     }
 
+    /**
+     * Drops all cached results and stops listening for block changes, should be called when the miner is removed.
+     */
+    public void invalidate() {
+        reset();
+        clearResults();
+        searchStart = null;
+    }
+
+    private void clearResults() {
+        chunkResults.clear();
+        dirtyChunks.clear();
+        untrack();
+    }
+
+    public int getFound() {
+        return found.get();
+    }
+
+    private void markChunkDirty(long chunk) {
+        dirtyChunks.add(chunk);
+    }
+
+    private void track(RegistryKey<World> dimension) {
+        trackedDimension = dimension;
+        Long2ObjectMap<Set<ThreadMinerSearch>> dimensionChunks = trackedChunks.computeIfAbsent(dimension, dim -> new Long2ObjectOpenHashMap<>());
+        int endX = searchStart.getX() + searchDiameter - 1;
+        int endZ = searchStart.getZ() + searchDiameter - 1;
+        for (int chunkX = searchStart.getX() >> 4; chunkX <= endX >> 4; chunkX++) {
+            for (int chunkZ = searchStart.getZ() >> 4; chunkZ <= endZ >> 4; chunkZ++) {
+                dimensionChunks.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), chunk -> new ReferenceOpenHashSet<>()).add(this);
+            }
+        }
+    }
+
+    private void untrack() {
+        if (trackedDimension != null) {
+            Long2ObjectMap<Set<ThreadMinerSearch>> dimensionChunks = trackedChunks.get(trackedDimension);
+            if (dimensionChunks != null) {
+                dimensionChunks.values().removeIf(searches -> searches.remove(this) && searches.isEmpty());
+                if (dimensionChunks.isEmpty()) {
+                    trackedChunks.remove(trackedDimension);
+                }
+            }
+            trackedDimension = null;
+        }
+    }
+
+    public static void onBlockChanged(BlockEvent.NeighborNotifyEvent event) {
+        IWorld world = event.getWorld();
+        if (!world.isRemote() && world instanceof World) {
+            Long2ObjectMap<Set<ThreadMinerSearch>> dimensionChunks = trackedChunks.get(((World) world).getDimensionKey());
+            if (dimensionChunks != null) {
+                long chunk = WorldUtils.getChunkPosAsLong(event.getPos());
+                Set<ThreadMinerSearch> searches = dimensionChunks.get(chunk);
+                if (searches != null) {
+                    for (ThreadMinerSearch search : searches) {
+                        search.markChunkDirty(chunk);
+                    }
+                }
+            }
+        }
+    }
+
+    public static void resetTracking() {
+        trackedChunks.clear();
+    }
+
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        int threads = MekanismConfig.general.minerSearchThreads.get();
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "Mekanism Digital Miner Search #" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            //Let the threads die off when no miners are searching
+            executor.allowCoreThreadTimeOut(true);
+        } else if (executor.getMaximumPoolSize() != threads) {
+            //Apply config changes, making sure the core size never goes above the maximum size
+            if (threads > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(threads);
+                executor.setCorePoolSize(threads);
+            } else {
+                executor.setCorePoolSize(threads);
+                executor.setMaximumPoolSize(threads);
+            }
+        }
+        return executor;
+    }
+
+    private static class FilterMatch {
+
+        private final List<MinerFilter<?>> filters;
+        private final BlockState state;
+        @Nullable
+        private final MinerFilter<?> filter;
+        private final boolean replaceTarget;
+
+        private FilterMatch(List<MinerFilter<?>> filters, BlockState state, @Nullable MinerFilter<?> filter, boolean replaceTarget) {
+            this.filters = filters;
+            this.state = state;
+            this.filter = filter;
+            this.replaceTarget = replaceTarget;
+        }
+
+        private static FilterMatch of(BlockState state, List<MinerFilter<?>> filters) {
+            ItemStack stack = new ItemStack(state.getBlock());
+            for (MinerFilter<?> filter : filters) {
+                if (filter.replaceStackMatches(stack)) {
+                    //Never mine blocks we would be replacing mined blocks with
+                    return new FilterMatch(filters, state, null, true);
+                }
+            }
+            for (MinerFilter<?> filter : filters) {
+                if (filter.canFilter(state)) {
+                    return new FilterMatch(filters, state, filter, false);
+                }
+            }
+            return new FilterMatch(filters, state, null, false);
+        }
+    }
+
+    private static class ChunkResult {
+
+        private final int generation;
+        private final long chunk;
+        private final Set<Block> blocks = new ReferenceOpenHashSet<>();
+        private final BitSet toMine = new BitSet();
+        private final Int2ObjectMap<MinerFilter<?>> replaceMap = new Int2ObjectOpenHashMap<>();
+
+        private ChunkResult(int generation, long chunk) {
+            this.generation = generation;
+            this.chunk = chunk;
+        }
+    }
+
     public enum State implements IHasTextComponent {
         IDLE(MekanismLang.MINER_IDLE),
         SEARCHING(MekanismLang.MINER_SEARCHING),
@@ -143,4 +475,4 @@ public class ThreadMinerSearch extends Thread {
             return MathUtils.getByIndexMod(MODES, index);
         }
     }
-}
\ No newline at end of file
+}
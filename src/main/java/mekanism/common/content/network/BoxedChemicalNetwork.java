@@ -4,8 +4,6 @@ import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
@@ -40,6 +38,7 @@ import mekanism.common.content.network.distribution.BoxedChemicalTransmitterSave
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
 import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache.CachedAcceptor;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
@@ -47,7 +46,6 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 
 /**
  * A DynamicNetwork extension created specifically for the transfer of Chemicals.
@@ -273,18 +271,23 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
         Set<ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>> availableAcceptors = new ObjectOpenHashSet<>();
         int totalHandlers = 0;
-        for (Entry<BlockPos, Map<Direction, LazyOptional<BoxedChemicalHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
-            ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack);
-            entry.getValue().forEach((side, lazyAcceptor) -> lazyAcceptor.ifPresent(acceptor -> {
-                IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
+        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = null;
+        BlockPos targetPos = null;
+        List<CachedAcceptor<BoxedChemicalHandler>> acceptors = acceptorCache.getAcceptors(getWorld());
+        for (int i = 0, size = acceptors.size(); i < size; i++) {
+            CachedAcceptor<BoxedChemicalHandler> acceptor = acceptors.get(i);
+            if (acceptor.isLive()) {
+                IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getAcceptor().getHandlerFor(chemicalType);
                 if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
-                    target.addHandler(side, handler);
+                    if (target == null || !acceptor.getPos().equals(targetPos)) {
+                        //The acceptors are grouped by position, so this is the first side of a new acceptor
+                        targetPos = acceptor.getPos();
+                        target = new ChemicalHandlerTarget<>(stack);
+                        availableAcceptors.add(target);
+                    }
+                    target.addHandler(acceptor.getSide(), handler);
+                    totalHandlers++;
                 }
-            }));
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
             }
         }
         return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, stack.getAmount(), stack);
@@ -307,6 +310,16 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         }
     }
 
+    @Override
+    protected boolean isBufferEmpty() {
+        return chemicalTank.getCurrent() == Current.EMPTY;
+    }
+
+    @Override
+    protected boolean hasTransferred() {
+        return prevTransferAmount > 0;
+    }
+
     @Override
     protected float computeContentScale() {
         float scale = (float) (getCurrentTankWithFallback().getStored() / (double) getCapacity());
@@ -4,8 +4,6 @@ import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
@@ -23,13 +21,15 @@ import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache.CachedAcceptor;
+import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.WorldUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 
 public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler, EnergyNetwork, FloatingLong, UniversalCable> implements IMekanismStrictEnergyHandler {
 
@@ -37,6 +37,10 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     public final VariableCapacityEnergyContainer energyContainer;
     private FloatingLong prevTransferAmount = FloatingLong.ZERO;
     private FloatingLong floatingLongCapacity = FloatingLong.ZERO;
+    //Distribution targets, kept between ticks while the acceptor cache is unchanged
+    private final Set<EnergyAcceptorTarget> cachedTargets = new ObjectOpenHashSet<>();
+    private int cachedTotalHandlers;
+    private int cachedLiveVersion = -1;
 
     public EnergyNetwork() {
         energyContainer = VariableCapacityEnergyContainer.create(this::getCapacityAsFloatingLong, BasicEnergyContainer.alwaysTrue, BasicEnergyContainer.alwaysTrue, this);
@@ -147,22 +151,38 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     }
 
     private FloatingLong tickEmit(FloatingLong energyToSend) {
-        Set<EnergyAcceptorTarget> targets = new ObjectOpenHashSet<>();
-        int totalHandlers = 0;
-        for (Entry<BlockPos, Map<Direction, LazyOptional<IStrictEnergyHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
-            EnergyAcceptorTarget target = new EnergyAcceptorTarget();
-            entry.getValue().forEach((side, lazyAcceptor) -> lazyAcceptor.ifPresent(acceptor -> {
-                if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
-                    target.addHandler(side, acceptor);
+        List<CachedAcceptor<IStrictEnergyHandler>> acceptors = acceptorCache.getAcceptors(getWorld());
+        if (cachedLiveVersion != acceptorCache.getLiveVersion()) {
+            rebuildTargets(acceptors);
+        }
+        return EmitUtils.sendToAcceptors(cachedTargets, cachedTotalHandlers, energyToSend.copy());
+    }
+
+    /**
+     * Rebuilds the targets we distribute energy to. This only needs to happen when the live acceptors change, as targets that do not want any energy in a given tick
+     * are skipped during the split. The handlers, including any energy compat adapters, are resolved by the acceptor cache instead of every tick.
+     */
+    private void rebuildTargets(List<CachedAcceptor<IStrictEnergyHandler>> acceptors) {
+        cachedTargets.clear();
+        cachedTotalHandlers = 0;
+        EnergyAcceptorTarget target = null;
+        BlockPos targetPos = null;
+        for (int i = 0, size = acceptors.size(); i < size; i++) {
+            CachedAcceptor<IStrictEnergyHandler> acceptor = acceptors.get(i);
+            if (acceptor.isLive()) {
+                if (target == null || !acceptor.getPos().equals(targetPos)) {
+                    //The acceptors are grouped by position, so this is the first side of a new acceptor
+                    targetPos = acceptor.getPos();
+                    target = new EnergyAcceptorTarget();
+                    //Let the target skip sides that are full until the acceptor's contents change
+                    target.setAcceptorTile(WorldUtils.getTileEntity(TileEntityMekanism.class, getWorld(), targetPos));
+                    cachedTargets.add(target);
                 }
-            }));
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                targets.add(target);
-                totalHandlers += curHandlers;
+                target.addHandler(acceptor.getSide(), acceptor.getAcceptor());
+                cachedTotalHandlers++;
             }
         }
-        return EmitUtils.sendToAcceptors(targets, totalHandlers, energyToSend.copy());
+        cachedLiveVersion = acceptorCache.getLiveVersion();
     }
 
     @Override
@@ -185,6 +205,16 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         }
     }
 
+    @Override
+    protected boolean isBufferEmpty() {
+        return energyContainer.isEmpty();
+    }
+
+    @Override
+    protected boolean hasTransferred() {
+        return !prevTransferAmount.isZero();
+    }
+
     @Override
     protected float computeContentScale() {
         float scale = (float) energyContainer.getEnergy().divideToLevel(energyContainer.getMaxEnergy());
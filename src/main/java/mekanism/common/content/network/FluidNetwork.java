@@ -4,8 +4,6 @@ import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
@@ -22,6 +20,7 @@ import mekanism.common.content.network.distribution.FluidHandlerTarget;
 import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache.CachedAcceptor;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.FluidUtils;
 import mekanism.common.util.MekanismUtils;
@@ -29,7 +28,6 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 
@@ -171,17 +169,20 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     private int tickEmit(@Nonnull FluidStack fluidToSend) {
         Set<FluidHandlerTarget> availableAcceptors = new ObjectOpenHashSet<>();
         int totalHandlers = 0;
-        for (Entry<BlockPos, Map<Direction, LazyOptional<IFluidHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
-            FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend);
-            entry.getValue().forEach((side, lazyAcceptor) -> lazyAcceptor.ifPresent(acceptor -> {
-                if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                    target.addHandler(side, acceptor);
+        FluidHandlerTarget target = null;
+        BlockPos targetPos = null;
+        List<CachedAcceptor<IFluidHandler>> acceptors = acceptorCache.getAcceptors(getWorld());
+        for (int i = 0, size = acceptors.size(); i < size; i++) {
+            CachedAcceptor<IFluidHandler> acceptor = acceptors.get(i);
+            if (acceptor.isLive() && FluidUtils.canFill(acceptor.getAcceptor(), fluidToSend)) {
+                if (target == null || !acceptor.getPos().equals(targetPos)) {
+                    //The acceptors are grouped by position, so this is the first side of a new acceptor
+                    targetPos = acceptor.getPos();
+                    target = new FluidHandlerTarget(fluidToSend);
+                    availableAcceptors.add(target);
                 }
-            }));
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
+                target.addHandler(acceptor.getSide(), acceptor.getAcceptor());
+                totalHandlers++;
             }
         }
         return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, fluidToSend.getAmount(), fluidToSend);
@@ -202,6 +203,16 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         }
     }
 
+    @Override
+    protected boolean isBufferEmpty() {
+        return fluidTank.isEmpty();
+    }
+
+    @Override
+    protected boolean hasTransferred() {
+        return prevTransferAmount > 0;
+    }
+
     @Override
     protected float computeContentScale() {
         float scale = fluidTank.getFluidAmount() / (float) fluidTank.getCapacity();
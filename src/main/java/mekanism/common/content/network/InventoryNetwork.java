@@ -1,13 +1,11 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import mekanism.api.Coord4D;
@@ -21,6 +19,7 @@ import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache.CachedAcceptor;
 import mekanism.common.tile.interfaces.ISideConfiguration;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.tileentity.TileEntity;
@@ -28,11 +27,12 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.chunk.IChunk;
-import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.items.IItemHandler;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    private final Set<BlockPos> changedPositions = new ObjectOpenHashSet<>();
+
     public InventoryNetwork() {
     }
 
@@ -46,52 +46,69 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
 
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
         List<AcceptorData> toReturn = new ArrayList<>();
-        for (Entry<BlockPos, Map<Direction, LazyOptional<IItemHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
-            BlockPos pos = entry.getKey();
-            if (!pos.equals(stack.homeLocation)) {
-                TileEntity acceptor = WorldUtils.getTileEntity(getWorld(), chunkMap, pos);
-                if (acceptor == null) {
-                    continue;
-                }
-                AcceptorData data = null;
-                Coord4D position = Coord4D.get(acceptor);
-                for (Entry<Direction, LazyOptional<IItemHandler>> acceptorEntry : entry.getValue().entrySet()) {
-                    Optional<IItemHandler> handler = acceptorEntry.getValue().resolve();
-                    if (handler.isPresent()) {
-                        Direction side = acceptorEntry.getKey();
-                        //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
-                        // actually need to even query the TE
-                        if (acceptor instanceof ISideConfiguration) {
-                            //If the acceptor in question implements the mekanism interface, check that the color matches and bail fast if it doesn't
-                            ISideConfiguration config = (ISideConfiguration) acceptor;
-                            if (config.getEjector().hasStrictInput()) {
-                                EnumColor configColor = config.getEjector().getInputColor(RelativeSide.fromDirections(config.getOrientation(), side));
-                                if (configColor != null && configColor != stack.color) {
-                                    continue;
-                                }
-                            }
-                        }
-                        TransitResponse response = TransporterManager.getPredictedInsert(position, side, handler.get(), request);
-                        if (!response.isEmpty()) {
-                            Direction opposite = side.getOpposite();
-                            if (data == null) {
-                                toReturn.add(data = new AcceptorData(pos, response, opposite));
-                            } else {
-                                data.sides.add(opposite);
-                            }
-                        }
+        BlockPos pos = null;
+        TileEntity acceptor = null;
+        Coord4D position = null;
+        AcceptorData data = null;
+        List<CachedAcceptor<IItemHandler>> acceptors = acceptorCache.getAcceptors(getWorld());
+        for (int i = 0, size = acceptors.size(); i < size; i++) {
+            CachedAcceptor<IItemHandler> cachedAcceptor = acceptors.get(i);
+            if (!cachedAcceptor.isLive()) {
+                continue;
+            }
+            if (!cachedAcceptor.getPos().equals(pos)) {
+                //The acceptors are grouped by position, so this is the first side of a new acceptor
+                pos = cachedAcceptor.getPos();
+                data = null;
+                acceptor = pos.equals(stack.homeLocation) ? null : WorldUtils.getTileEntity(getWorld(), chunkMap, pos);
+                position = acceptor == null ? null : Coord4D.get(acceptor);
+            }
+            if (acceptor == null) {
+                continue;
+            }
+            Direction side = cachedAcceptor.getSide();
+            //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
+            // actually need to even query the TE
+            if (acceptor instanceof ISideConfiguration) {
+                //If the acceptor in question implements the mekanism interface, check that the color matches and bail fast if it doesn't
+                ISideConfiguration config = (ISideConfiguration) acceptor;
+                if (config.getEjector().hasStrictInput()) {
+                    EnumColor configColor = config.getEjector().getInputColor(RelativeSide.fromDirections(config.getOrientation(), side));
+                    if (configColor != null && configColor != stack.color) {
+                        continue;
                     }
                 }
             }
+            TransitResponse response = TransporterManager.getPredictedInsert(position, side, cachedAcceptor.getAcceptor(), request);
+            if (!response.isEmpty()) {
+                Direction opposite = side.getOpposite();
+                if (data == null) {
+                    toReturn.add(data = new AcceptorData(pos, response, opposite));
+                } else {
+                    data.sides.add(opposite);
+                }
+            }
         }
         return toReturn;
     }
 
     @Override
     public void commit() {
+        for (LogisticalTransporterBase transmitter : transmittersToAdd) {
+            if (transmitter != null) {
+                changedPositions.add(transmitter.getTilePos());
+            }
+        }
         super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+        // update the cache for any paths that go through or next to transmitters that were added or had their acceptors change
+        PathfinderCache.onChanged(this, changedPositions);
+        changedPositions.clear();
+    }
+
+    @Override
+    public void acceptorChanged(LogisticalTransporterBase transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        changedPositions.add(transmitter.getTilePos());
     }
 
     @Override
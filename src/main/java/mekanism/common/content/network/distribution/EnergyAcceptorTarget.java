@@ -1,20 +1,76 @@
 package mekanism.common.content.network.distribution;
 
+import java.util.Map.Entry;
+import javax.annotation.Nullable;
 import mekanism.api.Action;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
+import mekanism.common.tile.base.TileEntityMekanism;
+import net.minecraft.util.Direction;
 
 public class EnergyAcceptorTarget extends Target<IStrictEnergyHandler, FloatingLong, FloatingLong> {
 
+    //Tile the handlers belong to, if it lets us know when its energy changes
+    @Nullable
+    private TileEntityMekanism acceptorTile;
+    //Sides that did not accept any energy when the tile's contents were at fullVersion
+    private byte fullSides;
+    private int fullVersion;
+
+    /**
+     * Sets the tile the handlers of this target belong to, so that sides that did not accept any energy can be skipped until the contents of the tile change.
+     */
+    public void setAcceptorTile(@Nullable TileEntityMekanism tile) {
+        acceptorTile = tile != null && tile.tracksEnergyChanges() ? tile : null;
+        fullSides = 0;
+    }
+
+    @Override
+    public void sendPossible(FloatingLong toSend, SplitInfo<FloatingLong> splitInfo) {
+        if (acceptorTile == null) {
+            super.sendPossible(toSend, splitInfo);
+            return;
+        }
+        int version = acceptorTile.getContentsVersion();
+        if (version != fullVersion) {
+            //The contents changed since we last checked, so sides that were full may accept energy again
+            fullSides = 0;
+            fullVersion = version;
+        }
+        needed.clear();
+        for (Entry<Direction, IStrictEnergyHandler> entry : handlers.entrySet()) {
+            int sideBit = 1 << entry.getKey().ordinal();
+            if ((fullSides & sideBit) != 0) {
+                //Skip querying sides that were full and have not changed since
+                splitInfo.send(FloatingLong.ZERO);
+                continue;
+            }
+            FloatingLong amountNeeded = simulate(entry.getValue(), toSend);
+            if (amountNeeded.isZero()) {
+                fullSides |= sideBit;
+                splitInfo.send(FloatingLong.ZERO);
+            } else if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
+                acceptAmount(entry.getValue(), splitInfo, amountNeeded);
+            } else {
+                needed.put(entry.getKey(), amountNeeded);
+            }
+        }
+    }
+
     @Override
     protected void acceptAmount(IStrictEnergyHandler handler, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
-        splitInfo.send(amount.subtract(handler.insertEnergy(amount, Action.EXECUTE)));
+        if (amount.isZero()) {
+            //Skip querying handlers that do not want any energy
+            splitInfo.send(FloatingLong.ZERO);
+        } else {
+            splitInfo.send(amount.subtract(handler.insertEnergy(amount, Action.EXECUTE)));
+        }
     }
 
     @Override
     protected FloatingLong simulate(IStrictEnergyHandler handler, FloatingLong energyToSend) {
         return energyToSend.subtract(handler.insertEnergy(energyToSend, Action.SIMULATE));
     }
-}
\ No newline at end of file
+}
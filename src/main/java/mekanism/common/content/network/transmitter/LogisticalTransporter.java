@@ -1,5 +1,6 @@
 package mekanism.common.content.network.transmitter;
 
+import java.util.Collections;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
@@ -45,7 +46,7 @@ public class LogisticalTransporter extends LogisticalTransporterBase implements
     @Override
     public ActionResultType onConfigure(PlayerEntity player, Direction side) {
         TransporterUtils.incrementColor(this);
-        PathfinderCache.onChanged(getTransmitterNetwork());
+        PathfinderCache.onChanged(getTransmitterNetwork(), Collections.singleton(getTilePos()));
         getTransmitterTile().sendUpdatePacket();
         EnumColor color = getColor();
         player.sendMessage(MekanismLang.LOG_FORMAT.translateColored(EnumColor.DARK_BLUE, MekanismLang.MEKANISM, EnumColor.GRAY,
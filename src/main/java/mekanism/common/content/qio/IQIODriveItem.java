@@ -1,6 +1,5 @@
 package mekanism.common.content.qio;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap.Entry;
 import mekanism.api.NBTConstants;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.util.ItemDataUtils;
@@ -25,20 +24,20 @@ public interface IQIODriveItem {
                     //Only add the item if the item could be read. If it can't that means the mod adding the item was probaly removed
                     //TODO: Eventually we may want to keep the NBT so that if the mod gets added back it exists again
                     long count = tag.getLong(NBTConstants.AMOUNT);
-                    data.getItemMap().put(HashedItem.create(itemType), count);
+                    data.loadType(HashedItem.create(itemType), count, tag);
                 }
             }
         }
     }
 
+    /**
+     * Writes the item map of the given drive to the stack, using the encoded form each type had the last time the drive was saved.
+     *
+     * @see QIODriveData#save()
+     */
     default void writeItemMap(ItemStack stack, QIODriveData map) {
         ListNBT list = new ListNBT();
-        for (Entry<HashedItem> entry : map.getItemMap().object2LongEntrySet()) {
-            CompoundNBT tag = new CompoundNBT();
-            tag.put(NBTConstants.ITEM, entry.getKey().getStack().write(new CompoundNBT()));
-            tag.putLong(NBTConstants.AMOUNT, entry.getLongValue());
-            list.add(tag);
-        }
+        list.addAll(map.getEncodedTypes());
         ItemDataUtils.setList(stack, NBTConstants.QIO_ITEM_MAP, list);
     }
 
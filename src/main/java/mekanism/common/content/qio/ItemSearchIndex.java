@@ -0,0 +1,113 @@
+package mekanism.common.content.qio;
+
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import mekanism.common.base.TagCache;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.client.util.ITooltipFlag;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.text.ITextComponent;
+
+/**
+ * Lowercase search data of an item type, used by {@link SearchQueryParser} queries. Each part is only looked up the first time a query needs it, and indices are
+ * shared between all searches so that typing in a QIO Item Viewer doesn't look up the names, tags and tooltips of every stored type again for each keystroke.
+ * Only use on client-side.
+ *
+ * @implNote Indices are created and filled on the client thread, but tag reloads can invalidate them from the integrated server's thread, so the shared cache is
+ * thread safe. It is bounded so that browsing many different types doesn't keep every index around.
+ */
+public class ItemSearchIndex {
+
+    private static final int MAX_CACHED = 8_192;
+    private static final Map<HashedItem, ItemSearchIndex> cache = CacheBuilder.newBuilder().maximumSize(MAX_CACHED).<HashedItem, ItemSearchIndex>build().asMap();
+    private static volatile int currentGeneration;
+
+    /**
+     * Gets the shared index of the given type, creating it if needed.
+     */
+    public static ItemSearchIndex get(HashedItem type) {
+        // use a raw key so that types which track extra data, such as their type id, still share the index
+        HashedItem key = HashedItem.raw(type.getStack());
+        ItemSearchIndex index = cache.computeIfAbsent(key, k -> new ItemSearchIndex(k.getStack()));
+        if (!index.isValid()) {
+            //Created while the indices were being invalidated
+            index = new ItemSearchIndex(key.getStack());
+            cache.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Creates an index for the given stack without sharing it, for one-off checks.
+     */
+    public static ItemSearchIndex create(@Nonnull ItemStack stack) {
+        return new ItemSearchIndex(stack);
+    }
+
+    /**
+     * Invalidates all indices that have been handed out, called when tags or the client's resources, such as the language, get reloaded.
+     */
+    public static void invalidateAll() {
+        currentGeneration++;
+        cache.clear();
+    }
+
+    private final ItemStack stack;
+    private final int generation;
+    private String name;
+    private String modID;
+    private String[] tags;
+    private String[] tooltip;
+
+    private ItemSearchIndex(@Nonnull ItemStack stack) {
+        this.stack = stack;
+        this.generation = currentGeneration;
+    }
+
+    /**
+     * @return {@code false} if this index was created before the last time the indices got invalidated, and should be looked up again.
+     */
+    public boolean isValid() {
+        return generation == currentGeneration;
+    }
+
+    public String getName() {
+        if (name == null) {
+            name = stack.getDisplayName().getString().toLowerCase(Locale.ROOT);
+        }
+        return name;
+    }
+
+    public String getModID() {
+        if (modID == null) {
+            modID = MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT);
+        }
+        return modID;
+    }
+
+    public String[] getTags() {
+        if (tags == null) {
+            List<String> itemTags = TagCache.getItemTags(stack);
+            tags = new String[itemTags.size()];
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = itemTags.get(i).toLowerCase(Locale.ROOT);
+            }
+        }
+        return tags;
+    }
+
+    public String[] getTooltip() {
+        if (tooltip == null) {
+            List<ITextComponent> lines = stack.getTooltip(null, ITooltipFlag.TooltipFlags.NORMAL);
+            tooltip = new String[lines.size()];
+            for (int i = 0; i < tooltip.length; i++) {
+                tooltip[i] = lines.get(i).getString().toLowerCase(Locale.ROOT);
+            }
+        }
+        return tooltip;
+    }
+}
@@ -2,10 +2,18 @@ package mekanism.common.content.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import mekanism.api.NBTConstants;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
 import mekanism.common.lib.inventory.HashedItem;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
 
 public class QIODriveData {
 
@@ -13,6 +21,12 @@ public class QIODriveData {
     private final long countCapacity;
     private final int typeCapacity;
     private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
+    // ids of the item types stored in this drive, as assigned by the frequency the drive is part of
+    private final BitSet typeIds = new BitSet();
+    // encoded item map entry of each stored type as last written to the drive stack, entries are never modified once created
+    private final Map<HashedItem, CompoundNBT> encodedTypes = new Object2ObjectOpenHashMap<>();
+    // types whose count changed since they were last encoded
+    private final Set<HashedItem> dirtyTypes = new ObjectOpenHashSet<>();
     private long itemCount;
 
     public QIODriveData(QIODriveKey key) {
@@ -39,6 +53,7 @@ public class QIODriveData {
         long toAdd = Math.min(amount, countCapacity - itemCount);
         itemMap.put(type, stored + toAdd);
         itemCount += toAdd;
+        dirtyTypes.add(type);
         key.updateMetadata(this);
         key.dataUpdate();
         return amount - toAdd;
@@ -53,6 +68,7 @@ public class QIODriveData {
             itemMap.removeLong(type);
         }
         itemCount -= ret.getCount();
+        dirtyTypes.add(type);
         key.updateMetadata(this);
         key.dataUpdate();
         return ret;
@@ -66,6 +82,63 @@ public class QIODriveData {
         return itemMap;
     }
 
+    /**
+     * Adds a type that was read from the drive stack, keeping the tag it was read from as its encoded form so that it doesn't have to be encoded again until it
+     * changes.
+     */
+    void loadType(HashedItem type, long count, CompoundNBT encoded) {
+        itemMap.put(type, count);
+        encodedTypes.put(type, encoded);
+    }
+
+    /**
+     * @return encoded item map entries of the stored types, as of the last time they were encoded
+     */
+    public Collection<CompoundNBT> getEncodedTypes() {
+        return encodedTypes.values();
+    }
+
+    /**
+     * @return {@code true} if the drive stack doesn't reflect the current contents of this drive.
+     */
+    public boolean hasUnsavedChanges() {
+        return !dirtyTypes.isEmpty();
+    }
+
+    /**
+     * Encodes any changed types and writes the item map and metadata to the drive stack. Must be called on the server thread, as encoding the types writes
+     * their stacks, which includes capabilities and tags of other mods.
+     */
+    public void save() {
+        for (HashedItem type : dirtyTypes) {
+            long count = getStored(type);
+            if (count == 0) {
+                encodedTypes.remove(type);
+            } else {
+                encodedTypes.put(type, encode(type, count));
+            }
+        }
+        dirtyTypes.clear();
+        key.updateMetadata(this);
+        key.save(this);
+    }
+
+    private static CompoundNBT encode(HashedItem type, long count) {
+        CompoundNBT tag = new CompoundNBT();
+        tag.put(NBTConstants.ITEM, type.getStack().write(new CompoundNBT()));
+        tag.putLong(NBTConstants.AMOUNT, count);
+        return tag;
+    }
+
+    /**
+     * Dangerous function. Should only be modified by the frequency this drive is part of.
+     *
+     * @return ids of the item types stored in this drive
+     */
+    public BitSet getTypeIds() {
+        return typeIds;
+    }
+
     public QIODriveKey getKey() {
         return key;
     }
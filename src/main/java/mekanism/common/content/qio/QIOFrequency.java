@@ -1,16 +1,26 @@
 package mekanism.common.content.qio;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nullable;
@@ -19,6 +29,7 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.TagCache;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.BiMultimap;
@@ -26,7 +37,7 @@ import mekanism.common.lib.WildcardMatcher;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.lib.inventory.HashedItem.TypeIdAwareHashedItem;
 import mekanism.common.network.PacketQIOItemViewerGuiSync;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.entity.player.ServerPlayerEntity;
@@ -37,25 +48,42 @@ import net.minecraft.tileentity.TileEntity;
 
 public class QIOFrequency extends Frequency {
 
-    private static final Random rand = new Random();
+    /**
+     * Number of ticks a type id has to be unused before it may be given to a new type, so that viewers have received the removal before it can be reused.
+     */
+    private static final int TYPE_ID_REUSE_DELAY = 100;
+    /**
+     * Maximum number of types sent to a player per packet, and per tick, when they open an item viewer.
+     */
+    private static final int SNAPSHOT_PAGE_SIZE = 2_500;
 
     private final Map<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
     private final Map<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
     // efficiently keep track of the tags utilized by the items stored
     private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
-    //Keep track of a UUID for each hashed item
-    private final BiMap<HashedItem, UUID> itemTypeLookup = HashBiMap.create();
+    // item type data indexed by the dense type id of each type
+    private QIOItemTypeData[] typesById = new QIOItemTypeData[16];
+    private int nextTypeId;
+    private final IntArrayFIFOQueue freedTypeIds = new IntArrayFIFOQueue();
+    private final LongArrayFIFOQueue freedTypeIdTimes = new LongArrayFIFOQueue();
+    private long ticks;
     // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
     private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
 
-    private final Set<UUIDAwareHashedItem> updatedItems = new HashSet<>();
+    // ids of the types that changed since the last viewer update, and the types that were removed since then by the id they had
+    private final IntSet updatedTypeIds = new IntOpenHashSet();
+    private final Int2ObjectMap<HashedItem> removedTypes = new Int2ObjectOpenHashMap<>();
+    // ids of the types that were created since the last viewer update, viewers may not know the stack of these yet
+    private final IntSet newTypeIds = new IntOpenHashSet();
     private final Set<ServerPlayerEntity> playersViewingItems = new HashSet<>();
+    // viewers that haven't received all the items yet -> next type id to send them
+    private final Object2IntMap<ServerPlayerEntity> viewerSnapshotCursors = new Object2IntOpenHashMap<>();
+    private long lastViewerUpdate;
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
-    /** If we have new item changes that haven't been saved. */
-    private boolean isDirty;
+    private long lastDriveSave;
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
@@ -85,13 +113,52 @@ public class QIOFrequency extends Frequency {
     }
 
     @Nullable
-    public HashedItem getTypeByUUID(@Nullable UUID uuid) {
-        return uuid == null ? null : itemTypeLookup.inverse().get(uuid);
+    public HashedItem getTypeById(int typeId) {
+        if (typeId < 0 || typeId >= typesById.length) {
+            return null;
+        }
+        QIOItemTypeData data = typesById[typeId];
+        return data == null ? null : data.itemType;
     }
 
-    @Nullable
-    public UUID getUUIDForType(HashedItem item) {
-        return itemTypeLookup.get(item);
+    public int getTypeId(HashedItem item) {
+        QIOItemTypeData data = itemDataMap.get(item);
+        return data == null ? TypeIdAwareHashedItem.NO_ID : data.typeId;
+    }
+
+    private QIOItemTypeData createTypeData(HashedItem type) {
+        tagLookupMap.putAll(TagCache.getItemTags(type.getStack()), type);
+        tagWildcardCache.clear();
+        int typeId;
+        if (!freedTypeIds.isEmpty() && ticks - freedTypeIdTimes.firstLong() >= TYPE_ID_REUSE_DELAY) {
+            typeId = freedTypeIds.dequeueInt();
+            freedTypeIdTimes.dequeueLong();
+        } else {
+            typeId = nextTypeId++;
+            if (typeId == typesById.length) {
+                typesById = Arrays.copyOf(typesById, typesById.length * 2);
+            }
+        }
+        QIOItemTypeData data = new QIOItemTypeData(type, typeId);
+        typesById[typeId] = data;
+        newTypeIds.add(typeId);
+        return data;
+    }
+
+    private void removeTypeData(QIOItemTypeData data) {
+        itemDataMap.remove(data.itemType);
+        tagLookupMap.removeValue(data.itemType);
+        tagWildcardCache.clear();
+        typesById[data.typeId] = null;
+        // make sure no drive still claims the id before it gets reused
+        for (QIODriveData driveData : driveMap.values()) {
+            driveData.getTypeIds().clear(data.typeId);
+        }
+        freedTypeIds.enqueue(data.typeId);
+        freedTypeIdTimes.enqueue(ticks);
+        updatedTypeIds.remove(data.typeId);
+        newTypeIds.remove(data.typeId);
+        removedTypes.put(data.typeId, data.itemType);
     }
 
     public ItemStack addItem(ItemStack stack) {
@@ -102,12 +169,7 @@ public class QIOFrequency extends Frequency {
             return stack;
         }
         // at this point we're guaranteed at least part of the input stack will be inserted
-        QIOItemTypeData data = itemDataMap.computeIfAbsent(type, t -> {
-            tagLookupMap.putAll(TagCache.getItemTags(stack), t);
-            tagWildcardCache.clear();
-            itemTypeLookup.put(t, UUID.randomUUID());
-            return new QIOItemTypeData(t);
-        });
+        QIOItemTypeData data = itemDataMap.computeIfAbsent(type, this::createTypeData);
         return type.createStack((int) data.add(stack.getCount()));
     }
 
@@ -139,10 +201,7 @@ public class QIOFrequency extends Frequency {
         ItemStack removed = data.remove(amount);
         // remove this item type if it's now empty
         if (data.count == 0) {
-            itemDataMap.remove(data.itemType);
-            tagLookupMap.removeValue(data.itemType);
-            itemTypeLookup.remove(data.itemType);
-            tagWildcardCache.clear();
+            removeTypeData(data);
         }
         return removed;
     }
@@ -174,13 +233,40 @@ public class QIOFrequency extends Frequency {
 
     public void openItemViewer(ServerPlayerEntity player) {
         playersViewingItems.add(player);
-        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>();
-        itemDataMap.values().forEach(d -> map.put(new UUIDAwareHashedItem(d.itemType, getUUIDForType(d.itemType)), d.count));
-        Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.batch(map, totalCountCapacity, totalTypeCapacity), player);
+        int cursor = sendSnapshotPage(player, 0);
+        if (cursor < nextTypeId) {
+            viewerSnapshotCursors.put(player, cursor);
+        } else {
+            viewerSnapshotCursors.removeInt(player);
+        }
+    }
+
+    /**
+     * Sends the next page of the items in this frequency to a player that is viewing them. As pages are read from the current state of the frequency, and any
+     * types created while paging get sent as part of the regular updates, the player ends up with the complete item list.
+     *
+     * @return the type id to continue from, or {@link #nextTypeId} if all types have been sent.
+     */
+    private int sendSnapshotPage(ServerPlayerEntity player, int cursor) {
+        Object2LongMap<TypeIdAwareHashedItem> map = new Object2LongOpenHashMap<>();
+        int typeId = cursor;
+        for (; typeId < nextTypeId && map.size() < SNAPSHOT_PAGE_SIZE; typeId++) {
+            QIOItemTypeData data = typesById[typeId];
+            if (data != null) {
+                map.put(new TypeIdAwareHashedItem(data.itemType, typeId), data.count);
+            }
+        }
+        if (cursor == 0) {
+            Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.batch(map, totalCountCapacity, totalTypeCapacity), player);
+        } else {
+            Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.batchPage(map, totalCountCapacity, totalTypeCapacity), player);
+        }
+        return typeId;
     }
 
     public void closeItemViewer(ServerPlayerEntity player) {
         playersViewingItems.remove(player);
+        viewerSnapshotCursors.removeInt(player);
     }
 
     public EnumColor getColor() {
@@ -220,25 +306,57 @@ public class QIOFrequency extends Frequency {
     @Override
     public void tick() {
         super.tick();
-        if (!updatedItems.isEmpty() || needsUpdate) {
-            Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>();
-            updatedItems.forEach(type -> {
-                QIOItemTypeData data = itemDataMap.get(type);
-                map.put(type, data == null ? 0 : data.count);
-            });
+        ticks++;
+        if (!viewerSnapshotCursors.isEmpty()) {
+            // continue sending the item list to players that recently opened a viewer
+            for (Iterator<Object2IntMap.Entry<ServerPlayerEntity>> iter = viewerSnapshotCursors.object2IntEntrySet().iterator(); iter.hasNext(); ) {
+                Object2IntMap.Entry<ServerPlayerEntity> entry = iter.next();
+                if (!playersViewingItems.contains(entry.getKey())) {
+                    iter.remove();
+                    continue;
+                }
+                int cursor = sendSnapshotPage(entry.getKey(), entry.getIntValue());
+                if (cursor < nextTypeId) {
+                    entry.setValue(cursor);
+                } else {
+                    iter.remove();
+                }
+            }
+        }
+        if ((!updatedTypeIds.isEmpty() || !removedTypes.isEmpty() || needsUpdate) && ticks - lastViewerUpdate >= MekanismConfig.general.qioViewerSyncInterval.get()) {
             // flush players that somehow didn't send a container close packet
             playersViewingItems.removeIf(player -> !(player.openContainer instanceof QIOItemViewerContainer));
-            playersViewingItems.forEach(player -> Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.update(map, totalCountCapacity, totalTypeCapacity), player));
-            updatedItems.clear();
+            if (!playersViewingItems.isEmpty()) {
+                // only send the stacks of types viewers may not know about yet, for all other types the id and count is enough
+                Object2LongMap<TypeIdAwareHashedItem> newTypes = new Object2LongOpenHashMap<>();
+                Int2LongMap changedCounts = new Int2LongOpenHashMap();
+                for (IntIterator iter = removedTypes.keySet().iterator(); iter.hasNext(); ) {
+                    changedCounts.put(iter.nextInt(), 0);
+                }
+                for (IntIterator iter = updatedTypeIds.iterator(); iter.hasNext(); ) {
+                    QIOItemTypeData data = typesById[iter.nextInt()];
+                    if (data != null) {
+                        if (newTypeIds.contains(data.typeId)) {
+                            newTypes.put(new TypeIdAwareHashedItem(data.itemType, data.typeId), data.count);
+                        } else {
+                            changedCounts.put(data.typeId, data.count);
+                        }
+                    }
+                }
+                // encode the update once and share it between all the viewers
+                Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.update(newTypes, changedCounts, totalCountCapacity, totalTypeCapacity), playersViewingItems);
+            }
+            updatedTypeIds.clear();
+            removedTypes.clear();
+            newTypeIds.clear();
             needsUpdate = false;
+            lastViewerUpdate = ticks;
         }
-        // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
-        // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
-        // this isn't a fully necessary operation, but it'll help avoid all item data getting lost if the server
-        // is forcibly shut down.
-        if (isDirty && rand.nextInt(100) == 0) {
+        // periodically write the types that changed in each drive to the drive stacks. This isn't a fully necessary operation as the drive array saves its
+        // drives when it gets written, but it'll help avoid all item data getting lost if the server is forcibly shut down.
+        if (ticks - lastDriveSave >= MekanismConfig.general.qioDriveSaveInterval.get()) {
+            lastDriveSave = ticks;
             saveAll();
-            isDirty = false;
         }
 
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
@@ -280,7 +398,7 @@ public class QIOFrequency extends Frequency {
         Set<QIODriveKey> keys = new HashSet<>(driveMap.keySet());
         keys.forEach(key -> removeDrive(key, false));
         driveMap.clear();
-        playersViewingItems.forEach(player -> Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.kill(), player));
+        Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.kill(), playersViewingItems);
     }
 
     @Override
@@ -338,13 +456,9 @@ public class QIOFrequency extends Frequency {
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
             data.getItemMap().forEach((storedKey, value) -> {
-                itemDataMap.computeIfAbsent(storedKey, e -> {
-                    tagWildcardCache.clear();
-                    tagLookupMap.putAll(TagCache.getItemTags(e.getStack()), e);
-                    itemTypeLookup.put(e, UUID.randomUUID());
-                    return new QIOItemTypeData(e);
-                }).addFromDrive(data, value);
-                updatedItems.add(new UUIDAwareHashedItem(storedKey, getUUIDForType(storedKey)));
+                QIOItemTypeData itemData = itemDataMap.computeIfAbsent(storedKey, this::createTypeData);
+                itemData.addFromDrive(data, value);
+                updatedTypeIds.add(itemData.typeId);
             });
             setNeedsUpdate();
         }
@@ -356,20 +470,22 @@ public class QIOFrequency extends Frequency {
         }
         QIODriveData data = driveMap.get(key);
         if (updateItemMap) {
-            data.getItemMap().forEach((storedKey, value) -> {
-                QIOItemTypeData itemData = itemDataMap.get(storedKey);
+            BitSet typeIds = data.getTypeIds();
+            for (int typeId = typeIds.nextSetBit(0); typeId >= 0; typeId = typeIds.nextSetBit(typeId + 1)) {
+                QIOItemTypeData itemData = typesById[typeId];
                 if (itemData != null) {
-                    itemData.containingDrives.remove(key);
+                    long value = data.getStored(itemData.itemType);
                     itemData.count -= value;
                     totalCount -= value;
                     // remove this entry from the item data map if it's now empty
-                    if (itemData.containingDrives.isEmpty() || itemData.count == 0) {
-                        itemDataMap.remove(storedKey);
-                        tagWildcardCache.clear();
+                    if (itemData.count <= 0) {
+                        removeTypeData(itemData);
+                    } else {
+                        updatedTypeIds.add(typeId);
                     }
-                    updatedItems.add(new UUIDAwareHashedItem(storedKey, getUUIDForType(storedKey)));
                 }
-            });
+            }
+            typeIds.clear();
             setNeedsUpdate();
         }
         // remove drive and capacity info from core tracking
@@ -377,15 +493,18 @@ public class QIOFrequency extends Frequency {
         totalTypeCapacity -= data.getTypeCapacity();
         driveMap.remove(key);
         // save the item list onto the physical drive
-        key.updateMetadata(data);
-        key.save(data);
+        data.save();
     }
 
+    /**
+     * Saves any drives that have changes which haven't been written to their drive stacks yet.
+     */
     public void saveAll() {
-        driveMap.forEach((key, value) -> {
-            key.updateMetadata(value);
-            key.save(value);
-        });
+        for (QIODriveData data : driveMap.values()) {
+            if (data.hasUnsavedChanges()) {
+                data.save();
+            }
+        }
     }
 
     private void addHolder(IQIODriveHolder holder) {
@@ -395,48 +514,48 @@ public class QIOFrequency extends Frequency {
         }
     }
 
-    private void setNeedsUpdate(@Nullable HashedItem changedItem) {
-        needsUpdate = true;
-        isDirty = true;
-        if (changedItem != null) {
-            updatedItems.add(new UUIDAwareHashedItem(changedItem, getUUIDForType(changedItem)));
-        }
+    private void setNeedsUpdate(int changedTypeId) {
+        setNeedsUpdate();
+        updatedTypeIds.add(changedTypeId);
     }
 
     private void setNeedsUpdate() {
-        setNeedsUpdate(null);
+        needsUpdate = true;
     }
 
     public class QIOItemTypeData {
 
         private final HashedItem itemType;
+        private final int typeId;
         private long count = 0;
-        private final Set<QIODriveKey> containingDrives = new HashSet<>();
 
-        public QIOItemTypeData(HashedItem itemType) {
+        public QIOItemTypeData(HashedItem itemType, int typeId) {
             this.itemType = itemType;
+            this.typeId = typeId;
         }
 
         private void addFromDrive(QIODriveData data, long toAdd) {
             count += toAdd;
             totalCount += toAdd;
-            containingDrives.add(data.getKey());
+            data.getTypeIds().set(typeId);
             setNeedsUpdate();
         }
 
         private long add(long amount) {
             long toAdd = amount;
             // first we try to add the items to an already-containing drive
-            for (QIODriveKey key : containingDrives) {
-                toAdd = addItemsToDrive(toAdd, driveMap.get(key));
-                if (toAdd == 0) {
-                    break;
+            for (QIODriveData data : driveMap.values()) {
+                if (data.getTypeIds().get(typeId)) {
+                    toAdd = addItemsToDrive(toAdd, data);
+                    if (toAdd == 0) {
+                        break;
+                    }
                 }
             }
             // next, we add the items to any drive that will take it
             if (toAdd > 0) {
                 for (QIODriveData data : driveMap.values()) {
-                    if (containingDrives.contains(data.getKey())) {
+                    if (data.getTypeIds().get(typeId)) {
                         continue;
                     }
                     toAdd = addItemsToDrive(toAdd, data);
@@ -448,31 +567,33 @@ public class QIOFrequency extends Frequency {
             // update internal/core values and return
             count += amount - toAdd;
             totalCount += amount - toAdd;
-            setNeedsUpdate(itemType);
+            setNeedsUpdate(typeId);
             return toAdd;
         }
 
         private long addItemsToDrive(long toAdd, QIODriveData data) {
             long rejects = data.add(itemType, toAdd);
             if (rejects < toAdd) {
-                containingDrives.add(data.getKey());
+                data.getTypeIds().set(typeId);
             }
             return rejects;
         }
 
         private ItemStack remove(int amount) {
             ItemStack ret = ItemStack.EMPTY;
-            for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
-                QIODriveData data = driveMap.get(iter.next());
+            for (QIODriveData data : driveMap.values()) {
+                if (!data.getTypeIds().get(typeId)) {
+                    continue;
+                }
                 ItemStack stack = data.remove(itemType, amount - ret.getCount());
                 if (ret.isEmpty()) {
                     ret = stack;
                 } else {
                     ret.grow(stack.getCount());
                 }
-                // remove this drive from containingDrives if it doesn't have this item anymore
+                // remove this type from the drive's types if it doesn't have this item anymore
                 if (data.getStored(itemType) == 0) {
-                    iter.remove();
+                    data.getTypeIds().clear(typeId);
                 }
                 // break early if we found enough items
                 if (ret.getCount() == amount) {
@@ -481,10 +602,14 @@ public class QIOFrequency extends Frequency {
             }
             count -= ret.getCount();
             totalCount -= ret.getCount();
-            setNeedsUpdate(itemType);
+            setNeedsUpdate(typeId);
             return ret;
         }
 
+        public int getTypeId() {
+            return typeId;
+        }
+
         public long getCount() {
             return count;
         }
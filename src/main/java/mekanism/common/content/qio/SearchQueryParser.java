@@ -6,15 +6,13 @@ import it.unimi.dsi.fastutil.chars.Char2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.chars.CharSet;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiPredicate;
-import mekanism.common.base.TagCache;
-import mekanism.common.util.MekanismUtils;
-import net.minecraft.client.util.ITooltipFlag;
 import net.minecraft.item.ItemStack;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -25,7 +23,7 @@ import org.apache.commons.lang3.tuple.Pair;
  */
 public class SearchQueryParser {
 
-    private static final ISearchQuery INVALID = stack -> false;
+    private static final ISearchQuery INVALID = index -> false;
     private static final Set<Character> TERMINATORS = Sets.newHashSet('|', '(', '\"', '\'');
 
     public static ISearchQuery parse(String query) {
@@ -162,13 +160,21 @@ public class SearchQueryParser {
         return Pair.of(sb.toString().trim(), i);
     }
 
+    private static boolean anyContains(String[] values, String key) {
+        for (String value : values) {
+            if (value.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public enum QueryType {
         // ~ is a dummy char, not actually used by parser
-        NAME('~', (key, stack) -> stack.getDisplayName().getString().toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        MOD_ID('@', (key, stack) -> MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        TOOLTIP('$', (key, stack) -> stack.getTooltip(null, ITooltipFlag.TooltipFlags.NORMAL).stream().map(t -> t.getString().toLowerCase(Locale.ROOT))
-              .anyMatch(tooltip -> tooltip.contains(key.toLowerCase(Locale.ROOT)))),
-        TAG('#', (key, stack) -> TagCache.getItemTags(stack).stream().anyMatch(itemTag -> itemTag.toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))));
+        NAME('~', 1, (key, index) -> index.getName().contains(key)),
+        MOD_ID('@', 0, (key, index) -> index.getModID().contains(key)),
+        TOOLTIP('$', 3, (key, index) -> anyContains(index.getTooltip(), key)),
+        TAG('#', 2, (key, index) -> anyContains(index.getTags(), key));
 
         private static final Char2ObjectMap<QueryType> charLookupMap = new Char2ObjectOpenHashMap<>();
 
@@ -187,25 +193,69 @@ public class SearchQueryParser {
         }
 
         private final char prefix;
-        private final BiPredicate<String, ItemStack> checker;
+        // relative cost of checking this type, cheaper types get checked first so that more expensive ones can often be skipped
+        private final int cost;
+        private final BiPredicate<String, ItemSearchIndex> checker;
 
-        QueryType(char prefix, BiPredicate<String, ItemStack> checker) {
+        QueryType(char prefix, int cost, BiPredicate<String, ItemSearchIndex> checker) {
             this.prefix = prefix;
+            this.cost = cost;
             this.checker = checker;
         }
 
-        public boolean matches(String key, ItemStack stack) {
-            return checker.test(key, stack);
+        /**
+         * @param key Lowercase key to check for.
+         */
+        public boolean matches(String key, ItemSearchIndex index) {
+            return checker.test(key, index);
+        }
+    }
+
+    /**
+     * Keys of a single query type, lowercased once when the query is compiled.
+     */
+    private static class CompiledKeys {
+
+        private final QueryType type;
+        private final String[] keys;
+
+        private CompiledKeys(QueryType type, List<String> keys) {
+            this.type = type;
+            this.keys = new String[keys.size()];
+            for (int i = 0; i < this.keys.length; i++) {
+                this.keys[i] = keys.get(i).toLowerCase(Locale.ROOT);
+            }
+        }
+
+        private boolean matches(ItemSearchIndex index) {
+            for (String key : keys) {
+                if (type.matches(key, index)) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 
     public static class SearchQuery implements ISearchQuery {
 
         private final Map<QueryType, List<String>> queryStrings = new LinkedHashMap<>();
+        private CompiledKeys[] compiled;
 
         @Override
-        public boolean matches(ItemStack stack) {
-            return queryStrings.entrySet().stream().allMatch(entry -> entry.getValue().stream().anyMatch(key -> entry.getKey().matches(key, stack)));
+        public boolean matches(ItemSearchIndex index) {
+            if (compiled == null) {
+                compiled = queryStrings.entrySet().stream()
+                      .map(entry -> new CompiledKeys(entry.getKey(), entry.getValue()))
+                      .sorted(Comparator.comparingInt(keys -> keys.type.cost))
+                      .toArray(CompiledKeys[]::new);
+            }
+            for (CompiledKeys keys : compiled) {
+                if (!keys.matches(index)) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         private boolean isEmpty() {
@@ -231,9 +281,17 @@ public class SearchQueryParser {
         }
 
         @Override
-        public boolean matches(ItemStack stack) {
+        public boolean matches(ItemSearchIndex index) {
             // allow empty query lists to match all stacks
-            return queries.isEmpty() || queries.stream().anyMatch(query -> query.matches(stack));
+            if (queries.isEmpty()) {
+                return true;
+            }
+            for (SearchQuery query : queries) {
+                if (query.matches(index)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Override
@@ -248,7 +306,11 @@ public class SearchQueryParser {
 
     public interface ISearchQuery {
 
-        boolean matches(ItemStack stack);
+        boolean matches(ItemSearchIndex index);
+
+        default boolean matches(ItemStack stack) {
+            return matches(ItemSearchIndex.create(stack));
+        }
 
         default boolean isInvalid() {
             return this == INVALID;
@@ -0,0 +1,73 @@
+package mekanism.common.content.teleporter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.tile.TileEntityTeleporter;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.EntityEvent;
+
+/**
+ * Keeps track of which chunks teleporters are looking for entities in, so that entities entering one of those chunks can be handed to the teleporters directly
+ * instead of the teleporters querying the world for entities every tick.
+ */
+public class TeleporterEntityIndex {
+
+    private static final Map<RegistryKey<World>, Long2ObjectMap<Set<TileEntityTeleporter>>> trackedChunks = new Object2ObjectOpenHashMap<>();
+
+    private TeleporterEntityIndex() {
+    }
+
+    public static void track(TileEntityTeleporter teleporter, RegistryKey<World> dimension, LongSet chunks) {
+        Long2ObjectMap<Set<TileEntityTeleporter>> dimensionChunks = trackedChunks.computeIfAbsent(dimension, dim -> new Long2ObjectOpenHashMap<>());
+        for (LongIterator iterator = chunks.iterator(); iterator.hasNext(); ) {
+            dimensionChunks.computeIfAbsent(iterator.nextLong(), chunk -> new ReferenceOpenHashSet<>()).add(teleporter);
+        }
+    }
+
+    public static void untrack(TileEntityTeleporter teleporter, RegistryKey<World> dimension, LongSet chunks) {
+        Long2ObjectMap<Set<TileEntityTeleporter>> dimensionChunks = trackedChunks.get(dimension);
+        if (dimensionChunks != null) {
+            for (LongIterator iterator = chunks.iterator(); iterator.hasNext(); ) {
+                long chunk = iterator.nextLong();
+                Set<TileEntityTeleporter> teleporters = dimensionChunks.get(chunk);
+                if (teleporters != null && teleporters.remove(teleporter) && teleporters.isEmpty()) {
+                    dimensionChunks.remove(chunk);
+                }
+            }
+            if (dimensionChunks.isEmpty()) {
+                trackedChunks.remove(dimension);
+            }
+        }
+    }
+
+    /**
+     * Called whenever an entity gets added to a chunk, which happens both when it moves into the chunk and when it gets added to the world.
+     */
+    public static void onEnteringChunk(EntityEvent.EnteringChunk event) {
+        Entity entity = event.getEntity();
+        if (!entity.world.isRemote()) {
+            Long2ObjectMap<Set<TileEntityTeleporter>> dimensionChunks = trackedChunks.get(entity.world.getDimensionKey());
+            if (dimensionChunks != null) {
+                Set<TileEntityTeleporter> teleporters = dimensionChunks.get(ChunkPos.asLong(event.getNewChunkX(), event.getNewChunkZ()));
+                if (teleporters != null) {
+                    for (TileEntityTeleporter teleporter : teleporters) {
+                        teleporter.addNearbyEntity(entity);
+                    }
+                }
+            }
+        }
+    }
+
+    public static void reset() {
+        trackedChunks.clear();
+    }
+}
@@ -1,49 +1,193 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 
+/**
+ * Bounded LRU cache of transporter paths. Each network keeps an index of which cached paths pass through which positions so that a change to a transporter only
+ * invalidates the paths that could actually be affected by it, rather than every path in the network.
+ */
 public class PathfinderCache {
 
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
-
+    /**
+     * All cached paths across all networks in least recently used order.
+     */
+    private static final Object2ObjectLinkedOpenHashMap<PathData, CachedPath> cachedPaths = new Object2ObjectLinkedOpenHashMap<>();
+    /**
+     * Network uuid -> packed position -> keys of the cached paths that pass through that position.
+     */
+    private static final Map<UUID, Long2ObjectMap<Set<PathData>>> positionIndex = new Object2ObjectOpenHashMap<>();
+    private static int cachedNodes;
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+
+    /**
+     * Removes all cached paths for the given networks.
+     */
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+            Long2ObjectMap<Set<PathData>> index = positionIndex.remove(network.getUUID());
+            if (index != null) {
+                for (Set<PathData> keys : index.values()) {
+                    for (PathData key : keys) {
+                        CachedPath removed = cachedPaths.remove(key);
+                        if (removed != null) {
+                            cachedNodes -= removed.path.size();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes any cached paths in the given network that pass through or next to one of the given positions.
+     *
+     * @param changedPositions Positions of the transporters that changed.
+     *
+     * @implNote Neighbors are included so that a newly added transporter that creates a shortcut next to an existing path causes that path to be recalculated. A
+     * shorter route that is created away from a cached path does not invalidate it, the cached path stays valid and is used until it is evicted or the network
+     * changes as a whole. This is accepted as it only makes items take a longer route than needed, where invalidating every path in the network on each change
+     * would throw away most of the cache.
+     */
+    public static void onChanged(InventoryNetwork network, Collection<BlockPos> changedPositions) {
+        if (changedPositions.isEmpty()) {
+            return;
+        }
+        Long2ObjectMap<Set<PathData>> index = positionIndex.get(network.getUUID());
+        if (index == null) {
+            return;
+        }
+        Set<PathData> toRemove = new ObjectOpenHashSet<>();
+        for (BlockPos pos : changedPositions) {
+            collectPaths(index, pos, toRemove);
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                collectPaths(index, pos.offset(side), toRemove);
+            }
+        }
+        for (PathData key : toRemove) {
+            remove(key);
         }
     }
 
-    public static void addCachedPath(LogisticalTransporterBase start, PathData data, List<BlockPos> positions, double cost) {
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new Object2ObjectOpenHashMap<>()).put(data, new CachedPath(positions, cost));
+    private static void collectPaths(Long2ObjectMap<Set<PathData>> index, BlockPos pos, Set<PathData> toRemove) {
+        Set<PathData> keys = index.get(pos.toLong());
+        if (keys != null) {
+            toRemove.addAll(keys);
+        }
+    }
+
+    public static void addCachedPath(PathData data, List<BlockPos> positions, double cost) {
+        CachedPath path = new CachedPath(positions, cost);
+        CachedPath previous = cachedPaths.putAndMoveToLast(data, path);
+        if (previous != null) {
+            unindex(data, previous);
+        }
+        Long2ObjectMap<Set<PathData>> index = positionIndex.computeIfAbsent(data.network, uuid -> new Long2ObjectOpenHashMap<>());
+        for (BlockPos pos : positions) {
+            index.computeIfAbsent(pos.toLong(), p -> new ObjectOpenHashSet<>()).add(data);
+        }
+        cachedNodes += positions.size();
+        int maxNodes = MekanismConfig.general.transporterPathCacheSize.get();
+        while (cachedNodes > maxNodes && !cachedPaths.isEmpty()) {
+            remove(cachedPaths.firstKey());
+            evictions++;
+        }
     }
 
     public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
+        PathData retKey = null;
         UUID uuid = start.getTransmitterNetwork().getUUID();
-        if (cachedPaths.containsKey(uuid)) {
-            Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
+        if (positionIndex.containsKey(uuid)) {
             for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(start.getTilePos(), end, side));
+                PathData key = new PathData(uuid, start.getTilePos(), end, side);
+                CachedPath test = cachedPaths.get(key);
                 if (ret == null || (test != null && test.getCost() < ret.getCost())) {
                     ret = test;
+                    retKey = key;
                 }
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+            //Mark the path we are using as the most recently used
+            cachedPaths.getAndMoveToLast(retKey);
+        }
         return ret;
     }
 
+    private static void remove(PathData key) {
+        CachedPath removed = cachedPaths.remove(key);
+        if (removed != null) {
+            unindex(key, removed);
+        }
+    }
+
+    private static void unindex(PathData key, CachedPath path) {
+        cachedNodes -= path.path.size();
+        Long2ObjectMap<Set<PathData>> index = positionIndex.get(key.network);
+        if (index != null) {
+            for (BlockPos pos : path.path) {
+                long packedPos = pos.toLong();
+                Set<PathData> keys = index.get(packedPos);
+                if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                    index.remove(packedPos);
+                }
+            }
+            if (index.isEmpty()) {
+                positionIndex.remove(key.network);
+            }
+        }
+    }
+
+    public static int getCachedPathCount() {
+        return cachedPaths.size();
+    }
+
+    public static int getCachedNodeCount() {
+        return cachedNodes;
+    }
+
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
+    public static long getEvictions() {
+        return evictions;
+    }
+
     public static void reset() {
         cachedPaths.clear();
+        positionIndex.clear();
+        cachedNodes = 0;
+        hits = 0;
+        misses = 0;
+        evictions = 0;
     }
 
     public static class CachedPath {
@@ -67,16 +211,19 @@ public class PathfinderCache {
 
     public static class PathData {
 
+        private final UUID network;
         private final BlockPos startTransporter;
         private final BlockPos end;
         private final Direction endSide;
         private final int hash;
 
-        public PathData(BlockPos s, BlockPos e, Direction es) {
+        public PathData(UUID network, BlockPos s, BlockPos e, Direction es) {
+            this.network = network;
             startTransporter = s;
             end = e;
             endSide = es;
             int code = 1;
+            code = 31 * code + network.hashCode();
             code = 31 * code + startTransporter.hashCode();
             code = 31 * code + end.hashCode();
             code = 31 * code + endSide.hashCode();
@@ -87,7 +234,7 @@ public class PathfinderCache {
         public boolean equals(Object obj) {
             if (obj instanceof PathData) {
                 PathData data = (PathData) obj;
-                return data.startTransporter.equals(startTransporter) && data.end.equals(end) && data.endSide.equals(endSide);
+                return data.network.equals(network) && data.startTransporter.equals(startTransporter) && data.end.equals(end) && data.endSide.equals(endSide);
             }
             return false;
         }
@@ -97,4 +244,4 @@ public class PathfinderCache {
             return hash;
         }
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,8 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import mekanism.api.Coord4D;
@@ -11,11 +13,11 @@ import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.ItemData;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.StackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.Direction;
-import net.minecraft.util.NonNullList;
 import net.minecraft.world.World;
 import net.minecraftforge.items.IItemHandler;
 
@@ -25,18 +27,45 @@ public class TransporterManager {
     }
 
     private static final Map<Coord4D, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    /**
+     * Predicted contents of the inventories we have been asked about this tick, with the in-flight stacks already inserted, indexed by the side of the inventory
+     * being inserted into. Predictions get updated as more stacks get sent to the inventory, and dropped when a stack arrives or changes its destination.
+     */
+    private static final Map<Coord4D, InventoryInfo[]> predictions = new Object2ObjectOpenHashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
+        predictions.clear();
+    }
+
+    /**
+     * Drops all predictions, called at the end of every server tick as the inventories may have changed in ways we don't track.
+     */
+    public static void clearPredictions() {
+        predictions.clear();
     }
 
     public static void add(World world, TransporterStack stack) {
-        flowingStacks.computeIfAbsent(new Coord4D(stack.getDest(), world), k -> new ObjectOpenHashSet<>()).add(stack);
+        Coord4D dest = new Coord4D(stack.getDest(), world);
+        flowingStacks.computeIfAbsent(dest, k -> new ObjectOpenHashSet<>()).add(stack);
+        InventoryInfo[] infos = predictions.get(dest);
+        if (infos != null) {
+            //Add the stack we just sent to the existing predictions rather than having to rebuild them
+            for (int i = 0; i < infos.length; i++) {
+                InventoryInfo info = infos[i];
+                if (info != null && !info.blocked) {
+                    info.blocked = !simulateInFlight(info, stack, EnumUtils.DIRECTIONS[i]);
+                }
+            }
+        }
     }
 
     public static void remove(World world, TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType() != Path.NONE) {
-            flowingStacks.get(new Coord4D(stack.getDest(), world)).remove(stack);
+            Coord4D dest = new Coord4D(stack.getDest(), world);
+            flowingStacks.get(dest).remove(stack);
+            //The stack either arrived or is going somewhere else, so the prediction has to be rebuilt from the actual contents
+            predictions.remove(dest);
         }
     }
 
@@ -61,13 +90,17 @@ public class TransporterManager {
      * @return The amount that is left over from trying to insert into the destination.
      */
     private static int simulateInsert(IItemHandler handler, InventoryInfo inventoryInfo, ItemStack stack, int count, boolean inFlight) {
+        if (inventoryInfo.openSlots == 0) {
+            //Every slot is full, no need to check them all individually
+            return count;
+        }
         int maxStackSize = stack.getMaxStackSize();
-        for (int slot = 0; slot < handler.getSlots(); slot++) {
+        for (int slot = 0; slot < inventoryInfo.inventory.length; slot++) {
             if (count == 0) {
                 // Nothing more to insert
                 break;
             }
-            int max = handler.getSlotLimit(slot);
+            int max = inventoryInfo.limits[slot];
             //If no items are allowed in the slot, pass it up before checking anything about the items
             if (max == 0) {
                 continue;
@@ -83,13 +116,13 @@ public class TransporterManager {
             // how the inventory would look after the insertion
 
             // Number of items in the destination
-            int destCount = inventoryInfo.stackSizes.getInt(slot);
+            int destCount = inventoryInfo.stackSizes[slot];
 
             int mergedCount = count + destCount;
             int toAccept = count;
             boolean needsSimulation = false;
             if (destCount > 0) {
-                if (!InventoryUtils.areItemsStackable(inventoryInfo.inventory.get(slot), stack) || destCount >= max) {
+                if (!InventoryUtils.areItemsStackable(inventoryInfo.inventory[slot], stack) || destCount >= max) {
                     //If the destination isn't empty and not stackable or it is currently full, move along
                     continue;
                 } else if (max > maxStackSize && mergedCount > maxStackSize) {
@@ -159,16 +192,16 @@ public class TransporterManager {
                     // in the destination, we set the item to the one we are sending so that we can compare
                     // it with InventoryUtils.areItemsStackable. This makes it so that we do not send multiple
                     // items of different types to the same slot just because they are not there yet
-                    inventoryInfo.inventory.set(slot, StackUtils.size(stack, 1));
+                    inventoryInfo.setStack(slot, StackUtils.size(stack, 1));
                 }
             }
             if (mergedCount > max) {
                 // Not all the items will fit; put max in and save leftovers
-                inventoryInfo.stackSizes.set(slot, max);
+                inventoryInfo.setSize(slot, max);
                 count = mergedCount - max;
             } else {
                 // All items will fit; set the destination count as the new combined amount
-                inventoryInfo.stackSizes.set(slot, mergedCount);
+                inventoryInfo.setSize(slot, mergedCount);
                 return 0;
             }
         }
@@ -186,7 +219,49 @@ public class TransporterManager {
      * @return {@link TransitResponse} of expected items to use
      */
     public static TransitResponse getPredictedInsert(Coord4D position, Direction side, IItemHandler handler, TransitRequest request) {
-        InventoryInfo inventoryInfo = new InventoryInfo(handler);
+        InventoryInfo inventoryInfo = getPrediction(position, side, handler);
+        if (inventoryInfo.blocked) {
+            //An in-flight stack couldn't be inserted; there's no room for anyone else
+            return request.getEmptyResponse();
+        }
+        //Now for each of the items in the request, simulate the insert, using the state from all the in-flight
+        // items to ensure we have an accurate model of what will happen in future. We try each stack in the
+        // request; it might be possible to not send the first item, but the second could work, etc.
+        //Note: The prediction is shared with later calls, so we undo any changes simulating the request makes to it.
+        // If the response actually gets sent, the stack will be added to the prediction when it starts flowing
+        inventoryInfo.startJournal();
+        try {
+            for (ItemData data : request.getItemData()) {
+                //Create a sending ItemStack with the hashed item type and total item count within the request
+                ItemStack stack = data.getStack();
+                int numToSend = data.getTotalCount();
+                //Directly pass the stack AND the actual amount we want, so that it does not need to copy the stack if there is no room
+                int numLeftOver = simulateInsert(handler, inventoryInfo, stack, numToSend, false);
+                //If leftovers is unchanged from the simulation, there's no room at all; move on to the next stack
+                if (numLeftOver == numToSend) {
+                    continue;
+                }
+                //Otherwise, construct the appropriately size stack to send and return that
+                return request.createResponse(StackUtils.size(stack, numToSend - numLeftOver), data);
+            }
+        } finally {
+            inventoryInfo.revertJournal();
+        }
+        return request.getEmptyResponse();
+    }
+
+    /**
+     * Gets the predicted contents of the given side of an inventory, building it from the handler's contents and the in-flight stacks if we don't have a prediction
+     * for it yet this tick.
+     */
+    private static InventoryInfo getPrediction(Coord4D position, Direction side, IItemHandler handler) {
+        InventoryInfo[] infos = predictions.computeIfAbsent(position, pos -> new InventoryInfo[EnumUtils.DIRECTIONS.length]);
+        InventoryInfo inventoryInfo = infos[side.ordinal()];
+        if (inventoryInfo != null && inventoryInfo.handler == handler) {
+            return inventoryInfo;
+        }
+        inventoryInfo = new InventoryInfo(handler);
+        infos[side.ordinal()] = inventoryInfo;
         //Before we see if this item can fit in the destination, we must first check the stacks that are
         // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
         // track of the initial size of the inventory and then simulate each in-flight addition. If any
@@ -195,70 +270,128 @@ public class TransporterManager {
         Set<TransporterStack> transporterStacks = flowingStacks.get(position);
         if (transporterStacks != null) {
             for (TransporterStack stack : transporterStacks) {
-                if (stack != null && stack.getPathType() != Path.NONE) {
-                    //We start by simulating inserting the stack into the handler, regardless of if we
-                    // are interacting with the same side of the target as the stack's path is taking.
-                    // This is so that in cases where the item handler is shared (chests) or some of
-                    // the slots of the item handler may be shared (our machines with multiple sides
-                    // set to the same side config are "different" because of the side proxies) then
-                    // we want to make sure we try to insert the in-flight stacks anyways so that if
-                    // the slot is the same we fill it.
-                    int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
-                    if (numLeftOver > 0) {
-                        if (numLeftOver == stack.itemStack.getCount()) {
-                            //If none of the stack was able to be inserted, check if we are attempting to insert it
-                            // into the same side as the side we are predicting that we can insert into.
-                            if (side != stack.getSideOfDest()) {
-                                //If we are not, then assume that the destination does not contain the slot that the in-flight
-                                // stack is en-route to at all, so don't exit early just because of failing to insert it into
-                                // the destination, and instead continue checking and then simulate/check our TransitRequest
-                                continue;
-                            }
-                        }
-                        // Failed to successfully insert this in-flight item; there's no room for anyone else
-                        return request.getEmptyResponse();
-                    }
+                if (stack != null && !simulateInFlight(inventoryInfo, stack, side)) {
+                    inventoryInfo.blocked = true;
+                    break;
                 }
             }
         }
+        return inventoryInfo;
+    }
 
-        //Now for each of the items in the request, simulate the insert, using the state from all the in-flight
-        // items to ensure we have an accurate model of what will happen in future. We try each stack in the
-        // request; it might be possible to not send the first item, but the second could work, etc.
-        for (ItemData data : request.getItemData()) {
-            //Create a sending ItemStack with the hashed item type and total item count within the request
-            ItemStack stack = data.getStack();
-            int numToSend = data.getTotalCount();
-            //Directly pass the stack AND the actual amount we want, so that it does not need to copy the stack if there is no room
-            int numLeftOver = simulateInsert(handler, inventoryInfo, stack, numToSend, false);
-            //If leftovers is unchanged from the simulation, there's no room at all; move on to the next stack
-            if (numLeftOver == numToSend) {
-                continue;
+    /**
+     * Simulates inserting an in-flight stack into the predicted contents of an inventory.
+     *
+     * @return {@code false} if the stack failed to be inserted, and there is no room for anything else.
+     */
+    private static boolean simulateInFlight(InventoryInfo inventoryInfo, TransporterStack stack, Direction side) {
+        if (stack.getPathType() == Path.NONE) {
+            return true;
+        }
+        //We start by simulating inserting the stack into the handler, regardless of if we
+        // are interacting with the same side of the target as the stack's path is taking.
+        // This is so that in cases where the item handler is shared (chests) or some of
+        // the slots of the item handler may be shared (our machines with multiple sides
+        // set to the same side config are "different" because of the side proxies) then
+        // we want to make sure we try to insert the in-flight stacks anyways so that if
+        // the slot is the same we fill it.
+        int numLeftOver = simulateInsert(inventoryInfo.handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
+        if (numLeftOver > 0) {
+            if (numLeftOver == stack.itemStack.getCount()) {
+                //If none of the stack was able to be inserted, check if we are attempting to insert it
+                // into the same side as the side we are predicting that we can insert into.
+                //If we are not, then assume that the destination does not contain the slot that the in-flight
+                // stack is en-route to at all, so don't exit early just because of failing to insert it into
+                // the destination, and instead continue checking and then simulate/check our TransitRequest
+                return side != stack.getSideOfDest();
             }
-            //Otherwise, construct the appropriately size stack to send and return that
-            return request.createResponse(StackUtils.size(stack, numToSend - numLeftOver), data);
+            // Failed to successfully insert this in-flight item
+            return false;
         }
-        return request.getEmptyResponse();
+        return true;
     }
 
     /**
-     * Information about the inventory, keeps track of the size of a stack a slot will have, and a cache of what {@link IItemHandler#getStackInSlot(int)} returns (as it
-     * has to call it anyways to get the stack size). This cache allows potentially expensive {@link IItemHandler#getStackInSlot(int)} implementations to only have to be
-     * called once instead of potentially many times.
+     * Information about the inventory, keeps track of the size of a stack a slot will have, and a cache of what {@link IItemHandler#getStackInSlot(int)} and {@link
+     * IItemHandler#getSlotLimit(int)} return (as it has to call them anyways to get the stack size). This cache allows potentially expensive implementations to only
+     * have to be called once per tick instead of potentially many times.
      */
     private static class InventoryInfo {
 
-        private final NonNullList<ItemStack> inventory;
-        private final IntList stackSizes = new IntArrayList();
+        private final IItemHandler handler;
+        private final ItemStack[] inventory;
+        private final int[] stackSizes;
+        private final int[] limits;
+        //Number of slots that have room left according to the predicted stack sizes
+        private int openSlots;
+        //If an in-flight stack failed to fit, in which case there is no room for anything else
+        private boolean blocked;
+        //Slot and previous size, and previous stack, of every change made while journaling so that they can be reverted
+        private final IntList journal = new IntArrayList();
+        private final List<ItemStack> journalStacks = new ArrayList<>();
+        private boolean journaling;
 
         public InventoryInfo(IItemHandler handler) {
+            this.handler = handler;
             int slots = handler.getSlots();
-            inventory = NonNullList.withSize(slots, ItemStack.EMPTY);
+            inventory = new ItemStack[slots];
+            stackSizes = new int[slots];
+            limits = new int[slots];
             for (int i = 0; i < slots; i++) {
                 ItemStack stack = handler.getStackInSlot(i);
-                inventory.set(i, stack);
-                stackSizes.add(stack.getCount());
+                inventory[i] = stack;
+                stackSizes[i] = stack.getCount();
+                limits[i] = handler.getSlotLimit(i);
+                if (stackSizes[i] < limits[i]) {
+                    openSlots++;
+                }
+            }
+        }
+
+        private void setSize(int slot, int size) {
+            int previous = stackSizes[slot];
+            if (journaling) {
+                journal.add(slot);
+                journal.add(previous);
+                journalStacks.add(inventory[slot]);
+            }
+            stackSizes[slot] = size;
+            updateOpenSlots(slot, previous, size);
+        }
+
+        private void setStack(int slot, ItemStack stack) {
+            if (journaling) {
+                journal.add(slot);
+                journal.add(stackSizes[slot]);
+                journalStacks.add(inventory[slot]);
+            }
+            inventory[slot] = stack;
+        }
+
+        private void updateOpenSlots(int slot, int previous, int size) {
+            boolean wasOpen = previous < limits[slot];
+            boolean isOpen = size < limits[slot];
+            if (wasOpen != isOpen) {
+                openSlots += isOpen ? 1 : -1;
+            }
+        }
+
+        private void startJournal() {
+            journaling = true;
+        }
+
+        private void revertJournal() {
+            //Undo the changes in reverse order so that each slot ends up with the state it had before the first change
+            for (int i = journalStacks.size() - 1; i >= 0; i--) {
+                int slot = journal.getInt(2 * i);
+                int previous = journal.getInt(2 * i + 1);
+                updateOpenSlots(slot, stackSizes[slot], previous);
+                stackSizes[slot] = previous;
+                inventory[slot] = journalStacks.get(i);
             }
+            journal.clear();
+            journalStacks.clear();
+            journaling = false;
         }
     }
-}
\ No newline at end of file
+}
@@ -10,10 +10,12 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.text.EnumColor;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
@@ -40,7 +42,11 @@ public final class TransporterPathfinder {
     private TransporterPathfinder() {
     }
 
-    private static List<Destination> getPaths(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
+    /**
+     * @param bestOnly {@code true} if only the cheapest destination is needed, allowing the search to stop as soon as no remaining destination can beat the best path
+     *                 found so far.
+     */
+    private static List<Destination> getPaths(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min, boolean bestOnly) {
         InventoryNetwork network = start.getTransmitterNetwork();
         if (network == null) {
             return Collections.emptyList();
@@ -48,13 +54,37 @@ public final class TransporterPathfinder {
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap);
         List<Destination> paths = new ArrayList<>();
-        for (AcceptorData data : acceptors) {
-            Destination path = getPath(data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+        if (MekanismConfig.general.transporterMultiTargetSearch.get()) {
+            Map<BlockPos, AcceptorData> uncached = new Object2ObjectOpenHashMap<>();
+            double bestScore = Double.MAX_VALUE;
+            for (AcceptorData data : acceptors) {
+                if (data.getResponse().getSendingAmount() >= min) {
+                    Destination cached = getCachedPath(data, start, stack, chunkMap);
+                    if (cached == null) {
+                        uncached.put(data.getLocation(), data);
+                    } else {
+                        paths.add(cached);
+                        bestScore = Math.min(bestScore, cached.score);
+                    }
+                }
+            }
+            if (bestOnly && bestScore < Double.MAX_VALUE) {
+                //Every step costs at least one, so the straight line distance is a lower bound on the score of any path to a destination
+                BlockPos startPos = start.getTilePos();
+                double best = bestScore;
+                uncached.values().removeIf(data -> WorldUtils.distanceBetween(startPos, data.getLocation()) > best);
+            }
+            if (!uncached.isEmpty()) {
+                new MultiTargetPathfinder(start, stack, uncached, bestOnly, bestScore).find(chunkMap, paths);
+            }
+        } else {
+            for (AcceptorData data : acceptors) {
+                Destination path = getPath(data, start, stack, min, chunkMap);
+                if (path != null) {
+                    paths.add(path);
+                }
             }
         }
-        Collections.sort(paths);
         return paths;
     }
 
@@ -73,14 +103,23 @@ public final class TransporterPathfinder {
         return true;
     }
 
+    @Nullable
+    private static Destination getCachedPath(AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
+        CachedPath test = PathfinderCache.getCache(start, data.getLocation(), data.getSides());
+        if (test != null && checkPath(start.getTileWorld(), test.getPath(), stack, chunkMap)) {
+            return new Destination(test.getPath(), false, data.getResponse(), test.getCost());
+        }
+        return null;
+    }
+
     private static Destination getPath(AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min, Long2ObjectMap<IChunk> chunkMap) {
         TransitResponse response = data.getResponse();
         if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(start.getTileWorld(), test.getPath(), stack, chunkMap)) {
-                return new Destination(test.getPath(), false, response, test.getCost());
+            Destination cached = getCachedPath(data, start, stack, chunkMap);
+            if (cached != null) {
+                return cached;
             }
+            BlockPos dest = data.getLocation();
             Pathfinder p = new Pathfinder(new DestChecker() {
                 @Override
                 public boolean isValid(TransporterStack stack, Direction dir, TileEntity tile) {
@@ -89,7 +128,7 @@ public final class TransporterPathfinder {
             }, start.getTileWorld(), dest, start.getTilePos(), stack, chunkMap);
             List<BlockPos> path = p.getPath();
             if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(start, new PathData(start.getTilePos(), dest, p.getSide()), path, p.finalScore);
+                PathfinderCache.addCachedPath(new PathData(start.getTransmitterNetwork().getUUID(), start.getTilePos(), dest, p.getSide()), path, p.finalScore);
                 return new Destination(path, false, response, p.finalScore);
             }
         }
@@ -98,16 +137,16 @@ public final class TransporterPathfinder {
 
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
-        List<Destination> paths = getPaths(start, stack, request, min);
+        List<Destination> paths = getPaths(start, stack, request, min, true);
         if (paths.isEmpty()) {
             return null;
         }
-        return paths.get(0);
+        return Collections.min(paths);
     }
 
     public static Destination getNewRRPath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, TileEntityLogisticalSorter outputter,
           int min) {
-        List<Destination> paths = getPaths(start, stack, request, min);
+        List<Destination> paths = getPaths(start, stack, request, min, false);
         Map<BlockPos, Destination> destPaths = new Object2ObjectOpenHashMap<>();
         for (Destination d : paths) {
             BlockPos dest = d.getPath().get(0);
@@ -302,6 +341,135 @@ public final class TransporterPathfinder {
         }
     }
 
+    /**
+     * Dijkstra search outward from the start transporter that finds the cheapest path to each of a set of destinations in a single sweep of the network.
+     */
+    public static class MultiTargetPathfinder {
+
+        private final Map<BlockPos, BlockPos> navMap = new Object2ObjectOpenHashMap<>();
+        private final Object2DoubleOpenHashMap<BlockPos> gScore = new Object2DoubleOpenHashMap<>();
+        //Furthest distance from the start of any node on the path to each node, used to apply the search limit of each target to the paths found to it
+        private final Object2DoubleOpenHashMap<BlockPos> pathDistance = new Object2DoubleOpenHashMap<>();
+        private final Set<BlockPos> closedSet = new ObjectOpenHashSet<>();
+        private final PriorityQueue<SearchNode> openQueue = new PriorityQueue<>();
+        private final Map<BlockPos, AcceptorData> targets;
+        private final LogisticalTransporterBase start;
+        private final TransporterStack transportStack;
+        private final World world;
+        private final double maxSearchDistance;
+        private final boolean bestOnly;
+        private double bestScore;
+
+        /**
+         * @param bestOnly  {@code true} if only the cheapest destination is needed, in which case the search stops once nothing left can beat the best path found.
+         * @param bestScore Score of the best path already known, or {@link Double#MAX_VALUE} if there is none.
+         */
+        public MultiTargetPathfinder(LogisticalTransporterBase start, TransporterStack stack, Map<BlockPos, AcceptorData> targets, boolean bestOnly, double bestScore) {
+            this.start = start;
+            this.world = start.getTileWorld();
+            this.transportStack = stack;
+            this.targets = targets;
+            this.bestOnly = bestOnly;
+            this.bestScore = bestScore;
+            BlockPos startPos = start.getTilePos();
+            double maxDistance = 0;
+            for (BlockPos target : targets.keySet()) {
+                maxDistance = Math.max(maxDistance, WorldUtils.distanceBetween(startPos, target));
+            }
+            //Match the limit a single target search would have for the furthest target, the limit of each target is checked when a path to it is found
+            maxSearchDistance = 2 * maxDistance;
+        }
+
+        public void find(Long2ObjectMap<IChunk> chunkMap, List<Destination> paths) {
+            BlockPos startPos = start.getTilePos();
+            int remaining = targets.size();
+            gScore.put(startPos, 0D);
+            pathDistance.put(startPos, 0D);
+            openQueue.add(new SearchNode(startPos, 0));
+            while (remaining > 0 && !openQueue.isEmpty()) {
+                SearchNode current = openQueue.poll();
+                BlockPos currentNode = current.pos;
+                if (!closedSet.add(currentNode)) {
+                    //Stale entry for a node we already reached more cheaply
+                    continue;
+                }
+                double currentScore = current.score;
+                //Nodes come out in order of score and the final step to a destination costs one, so nothing left can beat the best path
+                if (bestOnly && currentScore + 1 > bestScore) {
+                    break;
+                }
+                if (WorldUtils.distanceBetween(startPos, currentNode) > maxSearchDistance) {
+                    continue;
+                }
+                TileEntity currentNodeTile = WorldUtils.getTileEntity(world, chunkMap, currentNode);
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    BlockPos neighbor = currentNode.offset(direction);
+                    TileEntity neighborEntity = WorldUtils.getTileEntity(world, chunkMap, neighbor);
+                    if (transportStack.canInsertToTransporter(neighborEntity, direction, currentNodeTile)) {
+                        if (!closedSet.contains(neighbor)) {
+                            double tentativeG = currentScore + ((TileEntityLogisticalTransporterBase) neighborEntity).getTransmitter().getCost();
+                            if (!gScore.containsKey(neighbor) || tentativeG < gScore.getDouble(neighbor)) {
+                                navMap.put(neighbor, currentNode);
+                                gScore.put(neighbor, tentativeG);
+                                pathDistance.put(neighbor, Math.max(pathDistance.getDouble(currentNode), WorldUtils.distanceBetween(startPos, neighbor)));
+                                openQueue.add(new SearchNode(neighbor, tentativeG));
+                            }
+                        }
+                    } else if (isValidDestination(currentNodeTile, direction, neighbor, neighborEntity) &&
+                               pathDistance.getDouble(currentNode) <= 2 * WorldUtils.distanceBetween(startPos, neighbor)) {
+                        //As nodes are visited in order of score, the first time we reach a target is the cheapest path to it
+                        AcceptorData data = targets.remove(neighbor);
+                        remaining--;
+                        double score = currentScore + 1;
+                        List<BlockPos> path = reconstructPath(neighbor, currentNode);
+                        PathfinderCache.addCachedPath(new PathData(start.getTransmitterNetwork().getUUID(), startPos, neighbor, direction), path, score);
+                        paths.add(new Destination(path, false, data.getResponse(), score));
+                        if (bestOnly && score < bestScore) {
+                            bestScore = score;
+                        }
+                    }
+                }
+            }
+        }
+
+        private boolean isValidDestination(TileEntity currentTile, Direction direction, BlockPos neighbor, TileEntity neighborTile) {
+            AcceptorData data = targets.get(neighbor);
+            if (data != null && currentTile instanceof TileEntityLogisticalTransporterBase &&
+                TransporterUtils.canInsert(neighborTile, transportStack.color, data.getResponse().getStack(), direction, false)) {
+                LogisticalTransporterBase transporter = ((TileEntityLogisticalTransporterBase) currentTile).getTransmitter();
+                return transporter.canEmitTo(direction) || (neighbor.equals(transportStack.homeLocation) && transporter.canConnect(direction));
+            }
+            return false;
+        }
+
+        private List<BlockPos> reconstructPath(BlockPos dest, BlockPos lastTransporter) {
+            List<BlockPos> path = new ArrayList<>();
+            path.add(dest);
+            BlockPos node = lastTransporter;
+            while (node != null) {
+                path.add(node);
+                node = navMap.get(node);
+            }
+            return path;
+        }
+
+        private static class SearchNode implements Comparable<SearchNode> {
+
+            private final BlockPos pos;
+            private final double score;
+
+            private SearchNode(BlockPos pos, double score) {
+                this.pos = pos;
+                this.score = score;
+            }
+
+            @Override
+            public int compareTo(@Nonnull SearchNode other) {
+                return Double.compare(score, other.score);
+            }
+        }
+    }
+
     public static class Pathfinder {
 
         private final Set<BlockPos> openSet, closedSet;
@@ -164,7 +164,7 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
             }
         }
         inventorySlots.add(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getEntityWorld, this, 153, 17));
-        inventorySlots.add(smeltingInputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 51, 35));
+        inventorySlots.add(smeltingInputSlot = InputInventorySlot.at(item -> getRecipeType().contains(getEntityWorld(), item, recipe -> recipe.getInput().testType(item)), this, 51, 35));
         //TODO: Previously used FurnaceResultSlot, check if we need to replicate any special logic it had (like if it had xp logic or something)
         // Yes we probably do want this to allow for experience. Though maybe we should allow for experience for all our recipes/smelting recipes? V10
         inventorySlots.add(smeltingOutputSlot = OutputInventorySlot.at(this, 116, 35));
@@ -604,7 +604,7 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
     @Override
     public ItemStackToItemStackRecipe getRecipe(int cacheIndex) {
         ItemStack stack = inputHandler.getInput();
-        return stack.isEmpty() ? null : findFirstRecipe(recipe -> recipe.test(stack));
+        return stack.isEmpty() ? null : getRecipeType().findFirst(getEntityWorld(), stack, recipe -> recipe.test(stack));
     }
 
     public IEnergyContainer getEnergyContainer() {
@@ -635,7 +635,7 @@ public class EntityRobit extends CreatureEntity implements IMekanismInventory, I
     public void addContainerTrackers(@Nonnull ContainerType<?> containerType, MekanismContainer container) {
         container.track(SyncableEnum.create(SecurityMode::byIndexStatic, SecurityMode.PUBLIC, this::getSecurityMode, this::setSecurityMode));
         if (containerType == MekanismContainerTypes.MAIN_ROBIT.getContainerType()) {
-            container.track(SyncableFloatingLong.create(energyContainer::getEnergy, energyContainer::setEnergy));
+            container.track(SyncableFloatingLong.createThrottled(energyContainer::getEnergy, energyContainer::setEnergy));
         } else if (containerType == MekanismContainerTypes.SMELTING_ROBIT.getContainerType()) {
             container.track(SyncableInt.create(() -> progress, value -> progress = value));
         }
@@ -1,6 +1,6 @@
 package mekanism.common.inventory;
 
-import java.util.UUID;
+import mekanism.common.content.qio.ItemSearchIndex;
 import mekanism.common.lib.inventory.HashedItem;
 import net.minecraft.item.ItemStack;
 
@@ -12,12 +12,14 @@ public interface ISlotClickHandler {
 
         HashedItem getItem();
 
-        UUID getItemUUID();
+        int getTypeId();
 
         long getCount();
 
         String getDisplayName();
 
         String getModID();
+
+        ItemSearchIndex getSearchIndex();
     }
 }
\ No newline at end of file
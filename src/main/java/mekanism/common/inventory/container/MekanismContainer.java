@@ -14,6 +14,7 @@ import mekanism.api.chemical.pigment.PigmentStack;
 import mekanism.api.chemical.slurry.SlurryStack;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.inventory.container.slot.ArmorSlot;
 import mekanism.common.inventory.container.slot.HotBarSlot;
 import mekanism.common.inventory.container.slot.IInsertableSlot;
@@ -70,6 +71,7 @@ public abstract class MekanismContainer extends Container implements ISecurityCo
     protected final List<OffhandSlot> offhandSlots = new ArrayList<>();
     private final List<ISyncableData> trackedData = new ArrayList<>();
     private final Map<Object, List<ISyncableData>> specificTrackedData = new Object2ObjectOpenHashMap<>();
+    private int ticksSinceThrottledSync;
 
     protected MekanismContainer(ContainerTypeRegistryObject<?> type, int id, @Nullable PlayerInventory inv) {
         super(type.getContainerType(), id);
@@ -442,31 +444,46 @@ public abstract class MekanismContainer extends Container implements ISecurityCo
         // and also batch various sync packets
         if (!listeners.isEmpty()) {
             //Only check tracked data for changes if we actually have any listeners
-            List<PropertyData> dirtyData = new ArrayList<>();
+            //Note: Throttled data keeps track of the last value it synced, so skipping checking it on some ticks doesn't lose any changes
+            boolean checkThrottled = ++ticksSinceThrottledSync >= MekanismConfig.general.nonCriticalSyncInterval.get();
+            if (checkThrottled) {
+                ticksSinceThrottledSync = 0;
+            }
+            List<PropertyData> dirtyData = null;
             for (short i = 0; i < trackedData.size(); i++) {
                 ISyncableData data = trackedData.get(i);
-                DirtyType dirtyType = data.isDirty();
-                if (dirtyType != DirtyType.CLEAN) {
-                    dirtyData.add(data.getPropertyData(i, dirtyType));
+                if (checkThrottled || !data.isThrottled()) {
+                    DirtyType dirtyType = data.isDirty();
+                    if (dirtyType != DirtyType.CLEAN) {
+                        if (dirtyData == null) {
+                            //Only create the list once we find something that changed, as most ticks nothing does
+                            dirtyData = new ArrayList<>();
+                        }
+                        dirtyData.add(data.getPropertyData(i, dirtyType));
+                    }
                 }
             }
-            int size = dirtyData.size();
-            if (size == 1) {
-                //If we only have a single element send a type specific packet to reduce overhead of
-                // having to include type and count
-                sendChange(dirtyData.get(0).getSinglePacket((short) windowId));
-            } else if (size > 1) {
-                sendChange(new PacketUpdateContainerBatch((short) windowId, dirtyData));
+            if (dirtyData != null) {
+                if (dirtyData.size() == 1) {
+                    //If we only have a single element send a type specific packet to reduce overhead of
+                    // having to include type and count
+                    sendChange(dirtyData.get(0).getSinglePacket((short) windowId));
+                } else {
+                    sendChange(new PacketUpdateContainerBatch((short) windowId, dirtyData));
+                }
             }
         }
     }
 
     private <MSG> void sendChange(MSG packet) {
+        List<ServerPlayerEntity> players = new ArrayList<>(listeners.size());
         for (IContainerListener listener : listeners) {
             if (listener instanceof ServerPlayerEntity) {
-                Mekanism.packetHandler.sendTo(packet, (ServerPlayerEntity) listener);
+                players.add((ServerPlayerEntity) listener);
             }
         }
+        //Encode the changes once and share them between everyone viewing the container
+        Mekanism.packetHandler.sendTo(packet, players);
     }
 
     @Override
@@ -1,19 +1,23 @@
 package mekanism.common.inventory.container;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.qio.ItemSearchIndex;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.content.qio.SearchQueryParser;
 import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
@@ -22,7 +26,7 @@ import mekanism.common.inventory.GuiComponents.IToggleEnum;
 import mekanism.common.inventory.ISlotClickHandler;
 import mekanism.common.inventory.container.slot.InventoryContainerSlot;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.lib.inventory.HashedItem.TypeIdAwareHashedItem;
 import mekanism.common.network.PacketGuiItemDataRequest;
 import mekanism.common.network.PacketQIOItemViewerSlotInteract;
 import mekanism.common.registration.impl.ContainerTypeRegistryObject;
@@ -54,7 +58,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private ListSortType sortType = MekanismConfig.client.qioItemViewerSortType.get();
     private SortDirection sortDirection = MekanismConfig.client.qioItemViewerSortDirection.get();
 
-    private Object2LongMap<UUIDAwareHashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    private Int2ObjectMap<ItemSlotData> cachedInventory = new Int2ObjectOpenHashMap<>();
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
@@ -206,25 +210,73 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return newStack;
     }
 
-    public void handleBatchUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        cachedInventory = itemMap;
+    public void handleBatchUpdate(Object2LongMap<TypeIdAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+        cachedInventory.clear();
+        for (Object2LongMap.Entry<TypeIdAwareHashedItem> entry : itemMap.object2LongEntrySet()) {
+            TypeIdAwareHashedItem type = entry.getKey();
+            cachedInventory.put(type.getTypeId(), new ItemSlotData(type, type.getTypeId(), entry.getLongValue()));
+        }
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
         syncItemList();
     }
 
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        itemMap.object2LongEntrySet().forEach(entry -> {
-            long value = entry.getLongValue();
-            if (value == 0) {
-                cachedInventory.removeLong(entry.getKey());
-            } else {
-                cachedInventory.put(entry.getKey(), value);
-            }
-        });
+    public void handleUpdate(Object2LongMap<TypeIdAwareHashedItem> itemMap, Int2LongMap countMap, long countCapacity, int typeCapacity) {
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
-        syncItemList();
+        // if a large part of the list changed it is cheaper to just sort it again, otherwise only move the changed types to their new position
+        Comparator<IScrollableSlot> comparator = null;
+        if (itemList != null && (itemMap.size() + countMap.size()) * 8L <= itemList.size()) {
+            comparator = sortType.getComparator(sortDirection);
+        }
+        for (Object2LongMap.Entry<TypeIdAwareHashedItem> entry : itemMap.object2LongEntrySet()) {
+            TypeIdAwareHashedItem type = entry.getKey();
+            updateCachedType(type.getTypeId(), type, entry.getLongValue(), comparator);
+        }
+        for (Int2LongMap.Entry entry : countMap.int2LongEntrySet()) {
+            ItemSlotData previous = cachedInventory.get(entry.getIntKey());
+            // if we don't know the type yet, it will be included with its current count in a later page of the item list
+            if (previous != null) {
+                updateCachedType(entry.getIntKey(), previous.getItem(), entry.getLongValue(), comparator);
+            }
+        }
+        if (comparator == null) {
+            syncItemList();
+        } else {
+            searchCache.clear();
+            if (!searchQuery.isEmpty()) {
+                updateSearch(searchQuery);
+            }
+        }
+    }
+
+    private void updateCachedType(int typeId, HashedItem type, long count, @Nullable Comparator<IScrollableSlot> comparator) {
+        ItemSlotData slot = null;
+        ItemSlotData previous;
+        if (count == 0) {
+            previous = cachedInventory.remove(typeId);
+        } else {
+            slot = new ItemSlotData(type, typeId, count);
+            previous = cachedInventory.put(typeId, slot);
+            if (previous != null) {
+                // carry over the lookups of the type, only its count changed
+                slot.copyCachedLookups(previous);
+            }
+        }
+        if (comparator != null) {
+            if (previous != null) {
+                int index = Collections.binarySearch(itemList, previous, comparator);
+                if (index >= 0) {
+                    itemList.remove(index);
+                }
+                totalItems -= previous.getCount();
+            }
+            if (slot != null) {
+                int index = Collections.binarySearch(itemList, slot, comparator);
+                itemList.add(index < 0 ? -index - 1 : index, slot);
+                totalItems += slot.getCount();
+            }
+        }
     }
 
     public void handleKill() {
@@ -240,10 +292,10 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         itemList.clear();
         searchCache.clear();
         totalItems = 0;
-        cachedInventory.forEach((key, value) -> {
-            itemList.add(new ItemSlotData(key, key.getUUID(), value));
-            totalItems += value;
-        });
+        for (ItemSlotData slot : cachedInventory.values()) {
+            itemList.add(slot);
+            totalItems += slot.getCount();
+        }
         sortItemList();
         if (!searchQuery.isEmpty()) {
             updateSearch(searchQuery);
@@ -321,7 +373,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         list = new ArrayList<>();
         ISearchQuery query = SearchQueryParser.parse(queryText);
         for (IScrollableSlot slot : itemList) {
-            if (query.matches(slot.getItem().getStack())) {
+            if (query.matches(slot.getSearchIndex())) {
                 list.add(slot);
             }
         }
@@ -334,14 +386,14 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public void onClick(IScrollableSlot slot, int button, boolean hasShiftDown, ItemStack heldItem) {
         if (hasShiftDown) {
             if (slot != null) {
-                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.shiftTake(slot.getItemUUID()));
+                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.shiftTake(slot.getTypeId()));
             }
             return;
         }
         if (button == 0) {
             if (heldItem.isEmpty() && slot != null) {
                 int toTake = Math.min(slot.getItem().getStack().getMaxStackSize(), MathUtils.clampToInt(slot.getCount()));
-                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.take(slot.getItemUUID(), toTake));
+                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.take(slot.getTypeId(), toTake));
             } else if (!heldItem.isEmpty()) {
                 Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.put(heldItem.getCount()));
             }
@@ -349,7 +401,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             if (heldItem.isEmpty() && slot != null) {
                 //Cap it out at the max stack size of the item, but try to take half of what is stored (taking at least one if it is a single item)
                 int toTake = Math.min(slot.getItem().getStack().getMaxStackSize(), Math.max(1, MathUtils.clampToInt(slot.getCount() / 2)));
-                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.take(slot.getItemUUID(), toTake));
+                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.take(slot.getTypeId(), toTake));
             } else if (!heldItem.isEmpty()) {
                 Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.put(1));
             }
@@ -359,12 +411,16 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public static class ItemSlotData implements IScrollableSlot {
 
         private final HashedItem itemType;
-        private final UUID typeUUID;
+        private final int typeId;
         private final long count;
+        // cached as they get looked up many times while sorting
+        private String displayName;
+        private String modID;
+        private ItemSearchIndex searchIndex;
 
-        private ItemSlotData(HashedItem itemType, UUID typeUUID, long count) {
+        private ItemSlotData(HashedItem itemType, int typeId, long count) {
             this.itemType = itemType;
-            this.typeUUID = typeUUID;
+            this.typeId = typeId;
             this.count = count;
         }
 
@@ -374,8 +430,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         }
 
         @Override
-        public UUID getItemUUID() {
-            return typeUUID;
+        public int getTypeId() {
+            return typeId;
         }
 
         @Override
@@ -385,12 +441,32 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
         @Override
         public String getModID() {
-            return MekanismUtils.getModId(getItem().getStack());
+            if (modID == null) {
+                modID = MekanismUtils.getModId(getItem().getStack());
+            }
+            return modID;
         }
 
         @Override
         public String getDisplayName() {
-            return getItem().getStack().getDisplayName().getString();
+            if (displayName == null) {
+                displayName = getItem().getStack().getDisplayName().getString();
+            }
+            return displayName;
+        }
+
+        @Override
+        public ItemSearchIndex getSearchIndex() {
+            if (searchIndex == null || !searchIndex.isValid()) {
+                searchIndex = ItemSearchIndex.get(getItem());
+            }
+            return searchIndex;
+        }
+
+        private void copyCachedLookups(ItemSlotData other) {
+            displayName = other.displayName;
+            modID = other.modID;
+            searchIndex = other.searchIndex;
         }
     }
 
@@ -440,12 +516,17 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         ListSortType(ILangEntry name, ILangEntry tooltip, Comparator<IScrollableSlot> ascendingComparator, Comparator<IScrollableSlot> descendingComparator) {
             this.name = name;
             this.tooltip = tooltip;
-            this.ascendingComparator = ascendingComparator;
-            this.descendingComparator = descendingComparator;
+            //Break ties by the type id, so that the sorted list has a strict order that can be binary searched when updating it
+            this.ascendingComparator = ascendingComparator.thenComparingInt(IScrollableSlot::getTypeId);
+            this.descendingComparator = descendingComparator.thenComparingInt(IScrollableSlot::getTypeId);
         }
 
         public void sort(List<IScrollableSlot> list, SortDirection direction) {
-            list.sort(direction.isAscending() ? ascendingComparator : descendingComparator);
+            list.sort(getComparator(direction));
+        }
+
+        public Comparator<IScrollableSlot> getComparator(SortDirection direction) {
+            return direction.isAscending() ? ascendingComparator : descendingComparator;
         }
 
         @Override
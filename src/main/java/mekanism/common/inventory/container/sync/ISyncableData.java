@@ -6,6 +6,14 @@ public interface ISyncableData {
 
     DirtyType isDirty();
 
+    /**
+     * @return {@code true} if changes to this data are not time critical, such as the energy shown by an energy bar, and it only has to be checked for changes every
+     * few ticks.
+     */
+    default boolean isThrottled() {
+        return false;
+    }
+
     //DirtyType will either be DIRTY or SIZE
     PropertyData getPropertyData(short property, DirtyType dirtyType);
 
@@ -15,17 +15,26 @@ import mekanism.common.network.container.property.ShortPropertyData;
 public class SyncableFloatingLong implements ISyncableData {
 
     public static SyncableFloatingLong create(Supplier<@NonNull FloatingLong> getter, Consumer<@NonNull FloatingLong> setter) {
-        return new SyncableFloatingLong(getter, setter);
+        return new SyncableFloatingLong(getter, setter, false);
+    }
+
+    /**
+     * Creates a syncable that is only checked every few ticks, for values such as stored energy that change constantly but are only shown in energy bars.
+     */
+    public static SyncableFloatingLong createThrottled(Supplier<@NonNull FloatingLong> getter, Consumer<@NonNull FloatingLong> setter) {
+        return new SyncableFloatingLong(getter, setter, true);
     }
 
     private final Supplier<@NonNull FloatingLong> getter;
     private final Consumer<@NonNull FloatingLong> setter;
+    private final boolean throttled;
     private long lastKnownValue;
     private short lastKnownDecimal;
 
-    private SyncableFloatingLong(Supplier<@NonNull FloatingLong> getter, Consumer<@NonNull FloatingLong> setter) {
+    private SyncableFloatingLong(Supplier<@NonNull FloatingLong> getter, Consumer<@NonNull FloatingLong> setter, boolean throttled) {
         this.getter = getter;
         this.setter = setter;
+        this.throttled = throttled;
     }
 
     @Nonnull
@@ -41,6 +50,11 @@ public class SyncableFloatingLong implements ISyncableData {
         set(FloatingLong.create(get().getValue(), decimal));
     }
 
+    @Override
+    public boolean isThrottled() {
+        return throttled;
+    }
+
     @Override
     public DirtyType isDirty() {
         FloatingLong val = get();
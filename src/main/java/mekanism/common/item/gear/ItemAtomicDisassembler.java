@@ -3,12 +3,7 @@ package mekanism.common.item.gear;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableMultimap.Builder;
 import com.google.common.collect.Multimap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 import java.util.function.BooleanSupplier;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -23,18 +18,16 @@ import mekanism.api.text.EnumColor;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
 import mekanism.client.render.item.ISTERProvider;
-import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.block.BlockBounding;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.gear.ExcavationJobs;
 import mekanism.common.item.ItemEnergized;
 import mekanism.common.item.gear.ItemAtomicDisassembler.DisassemblerMode;
 import mekanism.common.item.interfaces.IItemHUDProvider;
 import mekanism.common.item.interfaces.IModeItem;
 import mekanism.common.item.interfaces.IRadialModeItem;
 import mekanism.common.item.interfaces.IRadialSelectorEnum;
-import mekanism.common.network.PacketLightningRender;
-import mekanism.common.network.PacketLightningRender.LightningPreset;
 import mekanism.common.tags.MekanismTags;
 import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.MekanismUtils;
@@ -61,7 +54,6 @@ import net.minecraft.util.DamageSource;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.Util;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
@@ -155,81 +147,48 @@ public class ItemAtomicDisassembler extends ItemEnergized implements IItemHUDPro
                 }
                 //If it is extended or should be treated as an ore
                 if (extended || state.isIn(MekanismTags.Blocks.ATOMIC_DISASSEMBLER_ORE)) {
-                    ServerPlayerEntity serverPlayerEntity = (ServerPlayerEntity) player;
-                    List<BlockPos> found = findPositions(state, pos, world, extended ? MekanismConfig.gear.disassemblerMiningRange.get() : -1);
-                    for (BlockPos foundPos : found) {
-                        if (pos.equals(foundPos)) {
-                            continue;
-                        }
-                        BlockState foundState = world.getBlockState(foundPos);
-                        FloatingLong destroyEnergy = getDestroyEnergy(stack, foundState.getBlockHardness(world, foundPos));
-                        if (energyContainer.extract(destroyEnergy, Action.SIMULATE, AutomationType.MANUAL).smallerThan(destroyEnergy)) {
-                            //If we don't have energy to break the block continue
-                            //Note: We do not break as given the energy scales with hardness, so it is possible we still have energy to break another block
-                            // Given we validate the blocks are the same but their block states may be different thus making them have different
-                            // block hardness values in a modded context
-                            continue;
-                        }
-                        int exp = ForgeHooks.onBlockBreakEvent(world, serverPlayerEntity.interactionManager.getGameType(), serverPlayerEntity, foundPos);
-                        if (exp == -1) {
-                            //If we can't actually break the block continue (this allows mods to stop us from vein mining into protected land)
-                            continue;
-                        }
-                        //Otherwise break the block
-                        Block block = foundState.getBlock();
-                        //Get the tile now so that we have it for when we try to harvest the block
-                        TileEntity tileEntity = WorldUtils.getTileEntity(world, foundPos);
-                        //Remove the block
-                        boolean removed = foundState.removedByPlayer(world, foundPos, player, true, foundState.getFluidState());
-                        if (removed) {
-                            block.onPlayerDestroy(world, foundPos, foundState);
-                            //Harvest the block allowing it to handle block drops, incrementing block mined count, and adding exhaustion
-                            block.harvestBlock(world, player, foundPos, foundState, tileEntity, stack);
-                            player.addStat(Stats.ITEM_USED.get(this));
-                            if (exp > 0) {
-                                //If we have xp drop it
-                                block.dropXpOnBlockBreak((ServerWorld) world, foundPos, exp);
-                            }
-                            //Use energy
-                            energyContainer.extract(destroyEnergy, Action.EXECUTE, AutomationType.MANUAL);
-                        }
-                    }
+                    //Mine the rest of the vein over the next ticks
+                    ExcavationJobs.queue((ServerPlayerEntity) player, stack, state, pos, extended ? MekanismConfig.gear.disassemblerMiningRange.get() : -1,
+                          (miner, container, foundPos) -> breakBlock(stack, miner.world, foundPos, miner, container));
                 }
             }
         }
         return super.onBlockStartBreak(stack, pos, player);
     }
 
-    private static List<BlockPos> findPositions(BlockState state, BlockPos location, World world, int maxRange) {
-        List<BlockPos> found = new ArrayList<>();
-        Set<BlockPos> checked = new ObjectOpenHashSet<>();
-        found.add(location);
-        Block startBlock = state.getBlock();
-        int maxCount = MekanismConfig.gear.disassemblerMiningCount.get() - 1;
-        for (int i = 0; i < found.size(); i++) {
-            BlockPos blockPos = found.get(i);
-            checked.add(blockPos);
-            for (BlockPos pos : BlockPos.getAllInBoxMutable(blockPos.add(-1, -1, -1), blockPos.add(1, 1, 1))) {
-                //We can check contains as mutable
-                if (!checked.contains(pos)) {
-                    if (maxRange == -1 || WorldUtils.distanceBetween(location, pos) <= maxRange) {
-                        Optional<BlockState> blockState = WorldUtils.getBlockState(world, pos);
-                        if (blockState.isPresent() && startBlock == blockState.get().getBlock()) {
-                            //Make sure to add it as immutable
-                            found.add(pos.toImmutable());
-                            //Note: We do this for all blocks we find/attempt to mine, not just ones we do mine, as it is a bit simpler
-                            // and also represents those blocks getting checked by the vein mining for potentially being able to be mined
-                            Mekanism.packetHandler.sendToAllTracking(new PacketLightningRender(LightningPreset.TOOL_AOE, Objects.hash(blockPos, pos),
-                                  Vector3d.copyCentered(blockPos), Vector3d.copyCentered(pos), 10), world, blockPos);
-                            if (found.size() > maxCount) {
-                                return found;
-                            }
-                        }
-                    }
-                }
+    private void breakBlock(ItemStack stack, World world, BlockPos pos, ServerPlayerEntity player, IEnergyContainer energyContainer) {
+        BlockState state = world.getBlockState(pos);
+        FloatingLong destroyEnergy = getDestroyEnergy(stack, state.getBlockHardness(world, pos));
+        if (energyContainer.extract(destroyEnergy, Action.SIMULATE, AutomationType.MANUAL).smallerThan(destroyEnergy)) {
+            //If we don't have energy to break the block continue
+            //Note: We do not stop as given the energy scales with hardness, so it is possible we still have energy to break another block
+            // Given we validate the blocks are the same but their block states may be different thus making them have different
+            // block hardness values in a modded context
+            return;
+        }
+        int exp = ForgeHooks.onBlockBreakEvent(world, player.interactionManager.getGameType(), player, pos);
+        if (exp == -1) {
+            //If we can't actually break the block continue (this allows mods to stop us from vein mining into protected land)
+            return;
+        }
+        //Otherwise break the block
+        Block block = state.getBlock();
+        //Get the tile now so that we have it for when we try to harvest the block
+        TileEntity tileEntity = WorldUtils.getTileEntity(world, pos);
+        //Remove the block
+        boolean removed = state.removedByPlayer(world, pos, player, true, state.getFluidState());
+        if (removed) {
+            block.onPlayerDestroy(world, pos, state);
+            //Harvest the block allowing it to handle block drops, incrementing block mined count, and adding exhaustion
+            block.harvestBlock(world, player, pos, state, tileEntity, stack);
+            player.addStat(Stats.ITEM_USED.get(this));
+            if (exp > 0) {
+                //If we have xp drop it
+                block.dropXpOnBlockBreak((ServerWorld) world, pos, exp);
             }
+            //Use energy
+            energyContainer.extract(destroyEnergy, Action.EXECUTE, AutomationType.MANUAL);
         }
-        return found;
     }
 
     private FloatingLong getDestroyEnergy(ItemStack itemStack, float hardness) {
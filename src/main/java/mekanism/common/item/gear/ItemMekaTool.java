@@ -4,7 +4,6 @@ import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableMultimap.Builder;
 import com.google.common.collect.Multimap;
 import java.util.List;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
@@ -19,6 +18,7 @@ import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.block.BlockBounding;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.gear.ExcavationJobs;
 import mekanism.common.content.gear.IModuleContainerItem;
 import mekanism.common.content.gear.Module;
 import mekanism.common.content.gear.Modules;
@@ -199,14 +199,9 @@ public class ItemMekaTool extends ItemEnergized implements IModuleContainerItem,
                 }
                 //If it is extended or should be treated as an ore
                 if (extended || state.isIn(MekanismTags.Blocks.ATOMIC_DISASSEMBLER_ORE)) {
-                    ServerPlayerEntity serverPlayerEntity = (ServerPlayerEntity) player;
-                    Set<BlockPos> found = ModuleVeinMiningUnit.findPositions(state, pos, world, extended ? module.getExcavationRange() : -1);
-                    for (BlockPos foundPos : found) {
-                        if (pos.equals(foundPos)) {
-                            continue;
-                        }
-                        breakBlock(stack, world, foundPos, serverPlayerEntity, energyContainer, silk);
-                    }
+                    //Mine the rest of the vein over the next ticks
+                    ExcavationJobs.queue((ServerPlayerEntity) player, stack, state, pos, extended ? module.getExcavationRange() : -1,
+                          (miner, container, foundPos) -> breakBlock(stack, miner.world, foundPos, miner, container, silk));
                 }
             }
         }
@@ -1,37 +1,89 @@
 package mekanism.common.lib.distribution;
 
+import javax.annotation.Nullable;
 import mekanism.api.math.FloatingLong;
 
+/**
+ * Split info for {@link FloatingLong}s that keeps track of the remaining and sent amounts as raw value and decimal primitives, so that the running totals don't create
+ * intermediary {@link FloatingLong} objects for every target. The share per target is still recalculated into a new object whenever a target needs a different amount
+ * than the share, and the total sent is only created once it is requested after a change.
+ */
 public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
 
-    private FloatingLong amountToSplit;
+    private static final short SINGLE_UNIT = 10_000;
+    private static final short MAX_DECIMAL = SINGLE_UNIT - 1;
+
+    private long toSplitValue;
+    private short toSplitDecimal;
+    private long sentValue;
+    private short sentDecimal;
     private FloatingLong amountPerTarget;
-    private FloatingLong sentSoFar;
+    @Nullable
+    private FloatingLong totalSent;
 
     public FloatingLongSplitInfo(FloatingLong amountToSplit, int totalTargets) {
         super(totalTargets);
-        this.amountToSplit = amountToSplit.copy();
+        toSplitValue = amountToSplit.getValue();
+        toSplitDecimal = amountToSplit.getDecimal();
         amountPerTarget = toSplitAmong == 0 ? FloatingLong.ZERO : amountToSplit.divide(toSplitAmong);
-        sentSoFar = FloatingLong.ZERO;
     }
 
     @Override
     public void send(FloatingLong amountNeeded) {
+        long neededValue = amountNeeded.getValue();
+        short neededDecimal = amountNeeded.getDecimal();
         //If we are giving it, then lower the amount we are checking/splitting
-        amountToSplit = amountToSplit.minusEqual(amountNeeded);
-        sentSoFar = sentSoFar.plusEqual(amountNeeded);
+        subtractFromSplit(neededValue, neededDecimal);
+        addToSent(neededValue, neededDecimal);
         toSplitAmong--;
         //Only recalculate it if it is not willing to accept/doesn't want the
         // full per side split
-        if (!amountNeeded.equals(amountPerTarget) && toSplitAmong != 0) {
-            FloatingLong amountPerLast = amountPerTarget;
-            amountPerTarget = amountToSplit.divide(toSplitAmong);
-            if (!amountPerChanged && !amountPerTarget.equals(amountPerLast)) {
+        if ((neededValue != amountPerTarget.getValue() || neededDecimal != amountPerTarget.getDecimal()) && toSplitAmong != 0) {
+            long lastValue = amountPerTarget.getValue();
+            short lastDecimal = amountPerTarget.getDecimal();
+            amountPerTarget = FloatingLong.create(toSplitValue, toSplitDecimal).divideEquals(toSplitAmong);
+            if (!amountPerChanged && (amountPerTarget.getValue() != lastValue || amountPerTarget.getDecimal() != lastDecimal)) {
                 amountPerChanged = true;
             }
         }
     }
 
+    private void subtractFromSplit(long value, short decimal) {
+        if (Long.compareUnsigned(value, toSplitValue) > 0 || (value == toSplitValue && decimal > toSplitDecimal)) {
+            //Clamp the result at zero as floating longs cannot become negative
+            toSplitValue = 0;
+            toSplitDecimal = 0;
+            return;
+        }
+        toSplitValue -= value;
+        int newDecimal = toSplitDecimal - decimal;
+        if (newDecimal < 0) {
+            newDecimal += SINGLE_UNIT;
+            toSplitValue--;
+        }
+        toSplitDecimal = (short) newDecimal;
+    }
+
+    private void addToSent(long value, short decimal) {
+        totalSent = null;
+        long newValue = sentValue + value;
+        boolean overflow = Long.compareUnsigned(newValue, sentValue) < 0;
+        int newDecimal = sentDecimal + decimal;
+        if (newDecimal > MAX_DECIMAL) {
+            newDecimal -= SINGLE_UNIT;
+            //Carrying into the max value also overflows
+            overflow |= newValue == -1;
+            newValue++;
+        }
+        if (overflow) {
+            //Clamp at the max value rather than overflowing
+            newValue = -1;
+            newDecimal = MAX_DECIMAL;
+        }
+        sentValue = newValue;
+        sentDecimal = (short) newDecimal;
+    }
+
     @Override
     public FloatingLong getShareAmount() {
         return amountPerTarget;
@@ -46,6 +98,9 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
 
     @Override
     public FloatingLong getTotalSent() {
-        return sentSoFar;
+        if (totalSent == null) {
+            totalSent = FloatingLong.createConst(sentValue, sentDecimal);
+        }
+        return totalSent;
     }
-}
\ No newline at end of file
+}
@@ -78,6 +78,8 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
      * @param splitInfo Information about current overall split.
      */
     public void sendPossible(EXTRA toSend, SplitInfo<TYPE> splitInfo) {
+        //Clear any leftover needed amounts in case this target is being reused from a previous distribution
+        needed.clear();
         for (Entry<Direction, HANDLER> entry : handlers.entrySet()) {
             TYPE amountNeeded = simulate(entry.getValue(), toSend);
             if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
@@ -1,8 +1,6 @@
 package mekanism.common.lib.inventory;
 
-import java.util.UUID;
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.StackUtils;
 import net.minecraft.item.ItemStack;
@@ -79,29 +77,33 @@ public class HashedItem {
         return code;
     }
 
-    public static class UUIDAwareHashedItem extends HashedItem {
+    /**
+     * A {@link HashedItem} that also knows the id its type has been assigned in a QIO frequency. The id is taken into account for equals and hashCode.
+     */
+    public static class TypeIdAwareHashedItem extends HashedItem {
 
-        private final UUID uuid;
-        private final boolean overrideHash;
+        /**
+         * Represents a type that has no id, such as when something failed to look up the type on the server.
+         */
+        public static final int NO_ID = -1;
+
+        private final int typeId;
 
         /**
-         * @apiNote For use on the client side, hash is taken into account for equals and hashCode
+         * @apiNote For use on the client side
          */
-        public UUIDAwareHashedItem(ItemStack stack, UUID uuid) {
+        public TypeIdAwareHashedItem(ItemStack stack, int typeId) {
             super(StackUtils.size(stack, 1));
-            this.uuid = uuid;
-            this.overrideHash = true;
+            this.typeId = typeId;
         }
 
-        public UUIDAwareHashedItem(HashedItem other, UUID uuid) {
+        public TypeIdAwareHashedItem(HashedItem other, int typeId) {
             super(other);
-            this.uuid = uuid;
-            this.overrideHash = false;
+            this.typeId = typeId;
         }
 
-        @Nullable
-        public UUID getUUID() {
-            return uuid;
+        public int getTypeId() {
+            return typeId;
         }
 
         @Override
@@ -109,18 +111,12 @@ public class HashedItem {
             if (obj == this) {
                 return true;
             }
-            if (overrideHash && uuid != null) {
-                return obj instanceof UUIDAwareHashedItem && uuid.equals(((UUIDAwareHashedItem) obj).uuid) && super.equals(obj);
-            }
-            return super.equals(obj);
+            return obj instanceof TypeIdAwareHashedItem && typeId == ((TypeIdAwareHashedItem) obj).typeId && super.equals(obj);
         }
 
         @Override
         public int hashCode() {
-            if (overrideHash && uuid != null) {
-                return 31 * super.hashCode() + uuid.hashCode();
-            }
-            return super.hashCode();
+            return 31 * super.hashCode() + typeId;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package mekanism.common.lib.math.voxel;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import javax.annotation.Nonnull;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Set of block positions that stores the positions packed into longs (see {@link BlockPos#toLong()}) instead of as {@link BlockPos} objects. Checking if a position is
+ * contained doesn't require creating a position object when using {@link #contains(long)}, and iterating using {@link #longIterator()} doesn't create any objects.
+ * Iterating the set as a {@link java.util.Set} creates a new immutable position for each element.
+ */
+public class BlockPosSet extends AbstractSet<BlockPos> {
+
+    private final LongOpenHashSet positions;
+
+    public BlockPosSet() {
+        positions = new LongOpenHashSet();
+    }
+
+    public BlockPosSet(int expectedSize) {
+        positions = new LongOpenHashSet(expectedSize);
+    }
+
+    @Override
+    public boolean add(BlockPos pos) {
+        return positions.add(pos.toLong());
+    }
+
+    public boolean add(long pos) {
+        return positions.add(pos);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof BlockPos && positions.contains(((BlockPos) o).toLong());
+    }
+
+    public boolean contains(long pos) {
+        return positions.contains(pos);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof BlockPos && positions.remove(((BlockPos) o).toLong());
+    }
+
+    public boolean remove(long pos) {
+        return positions.remove(pos);
+    }
+
+    @Override
+    public int size() {
+        return positions.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        positions.clear();
+    }
+
+    /**
+     * Shrinks the backing table to fit the current size, for sets that aren't going to change anymore.
+     */
+    public void trim() {
+        positions.trim();
+    }
+
+    /**
+     * @return an iterator over the packed positions in this set
+     */
+    public LongIterator longIterator() {
+        return positions.iterator();
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<BlockPos> iterator() {
+        LongIterator iterator = positions.iterator();
+        return new Iterator<BlockPos>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public BlockPos next() {
+                return BlockPos.fromLong(iterator.nextLong());
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof BlockPosSet) {
+            return positions.equals(((BlockPosSet) o).positions);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        //Match the hash code of a set of block positions without creating the positions
+        int hash = 0;
+        for (LongIterator iterator = positions.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            hash += (BlockPos.unpackY(pos) + BlockPos.unpackZ(pos) * 31) * 31 + BlockPos.unpackX(pos);
+        }
+        return hash;
+    }
+}
@@ -2,17 +2,20 @@ package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.math.voxel.BlockPosSet;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.util.EnumUtils;
 import net.minecraft.item.ItemStack;
@@ -32,8 +35,8 @@ public class FormationProtocol<T extends MultiblockData> {
     private final Structure structure;
     private final MultiblockManager<T> manager;
 
-    public final Set<BlockPos> locations = new ObjectOpenHashSet<>();
-    public final Set<BlockPos> innerNodes = new ObjectOpenHashSet<>();
+    public final BlockPosSet locations = new BlockPosSet();
+    public final BlockPosSet innerNodes = new BlockPosSet();
     public final Set<ValveData> valves = new ObjectOpenHashSet<>();
     public final Set<UUID> idsFound = new ObjectOpenHashSet<>();
 
@@ -112,25 +115,32 @@ public class FormationProtocol<T extends MultiblockData> {
         return explore(start, checker, MAX_SIZE * MAX_SIZE * MAX_SIZE);
     }
 
+    /**
+     * Counts the positions connected to the start position that match the checker.
+     *
+     * @param checker Checks if a position matches, it is given a mutable position that should not be kept around.
+     */
     public static int explore(BlockPos start, Predicate<BlockPos> checker, int maxCount) {
         if (!checker.test(start)) {
             return 0;
         }
 
-        Queue<BlockPos> openSet = new LinkedList<>();
-        Set<BlockPos> traversed = new ObjectOpenHashSet<>();
-        openSet.add(start);
-        traversed.add(start);
+        //Track positions as packed longs so that we only create block positions for the checker
+        LongPriorityQueue openSet = new LongArrayFIFOQueue();
+        LongSet traversed = new LongOpenHashSet();
+        openSet.enqueue(start.toLong());
+        traversed.add(start.toLong());
+        BlockPos.Mutable ptr = new BlockPos.Mutable();
         while (!openSet.isEmpty()) {
-            BlockPos ptr = openSet.poll();
+            long packed = openSet.dequeueLong();
             int traversedSize = traversed.size();
             if (traversedSize >= maxCount) {
                 return traversedSize;
             }
             for (Direction side : EnumUtils.DIRECTIONS) {
-                BlockPos offset = ptr.offset(side);
-                if (!traversed.contains(offset) && checker.test(offset)) {
-                    openSet.add(offset);
+                long offset = BlockPos.offset(packed, side);
+                if (!traversed.contains(offset) && checker.test(ptr.setPos(offset))) {
+                    openSet.enqueue(offset);
                     traversed.add(offset);
                 }
             }
@@ -177,6 +187,10 @@ public class FormationProtocol<T extends MultiblockData> {
     }
 
     private StructureResult form(T structureFound, Set<UUID> idsFound) {
+        //The positions of a formed structure don't change anymore, so shrink the sets down to what they hold
+        structureFound.locations.trim();
+        structureFound.innerNodes.trim();
+        structureFound.internalLocations.trim();
         return new StructureResult(FormationResult.SUCCESS, structureFound, idsFound);
     }
 
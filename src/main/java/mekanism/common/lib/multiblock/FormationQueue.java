@@ -0,0 +1,77 @@
+package mekanism.common.lib.multiblock;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IWorld;
+
+/**
+ * Queue of structures waiting to be formed. Structures that got marked for an update are formed at the end of the server tick, as many as fit in the configured
+ * time budget, so that loading a chunk full of multiblocks doesn't try to validate all of them in a single tick.
+ */
+public class FormationQueue {
+
+    private static final Queue<PendingFormation<?>> pending = new ArrayDeque<>();
+
+    private FormationQueue() {
+    }
+
+    static <TILE extends TileEntity & IMultiblockBase> void queue(Structure structure, TILE tile) {
+        pending.add(new PendingFormation<>(structure, tile));
+    }
+
+    /**
+     * Forms queued structures until the formation budget for this tick is used up. At least one structure is formed per tick so that the queue always drains.
+     */
+    public static void tick() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long budget = MekanismConfig.general.multiblockFormationBudget.get() * 1_000L;
+        long start = System.nanoTime();
+        do {
+            pending.poll().form();
+        } while (!pending.isEmpty() && System.nanoTime() - start < budget);
+    }
+
+    /**
+     * Drops the structures that are waiting to be formed in the given world.
+     */
+    public static void onWorldUnload(IWorld world) {
+        pending.removeIf(formation -> {
+            if (formation.tile.getWorld() == world) {
+                formation.structure.onFormationDequeued();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    public static void reset() {
+        pending.clear();
+    }
+
+    private static class PendingFormation<TILE extends TileEntity & IMultiblockBase> {
+
+        private final Structure structure;
+        private final TILE tile;
+
+        private PendingFormation(Structure structure, TILE tile) {
+            this.structure = structure;
+            this.tile = tile;
+        }
+
+        private void form() {
+            structure.onFormationDequeued();
+            //If the structure got invalidated, or the tile got removed or unloaded since the structure was queued, the result of
+            // forming it would be discarded anyways. Any later change to the blocks marks the structure for an update again, and
+            // queues the up to date structure
+            //Note: Structures that are still formed are passed on as well, as updating them removes the multiblock
+            if (structure.isValid() && !tile.isRemoved() && WorldUtils.isBlockLoaded(tile.getWorld(), tile.getPos())) {
+                structure.runUpdate(tile);
+            }
+        }
+    }
+}
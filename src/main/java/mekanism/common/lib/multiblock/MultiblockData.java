@@ -1,5 +1,6 @@
 package mekanism.common.lib.multiblock;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,6 +32,7 @@ import mekanism.common.capabilities.chemical.dynamic.IPigmentTracker;
 import mekanism.common.capabilities.chemical.dynamic.ISlurryTracker;
 import mekanism.common.capabilities.heat.ITileHeatHandler;
 import mekanism.common.inventory.container.sync.dynamic.ContainerSync;
+import mekanism.common.lib.math.voxel.BlockPosSet;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.lib.math.voxel.VoxelCuboid.CuboidRelative;
@@ -52,8 +54,8 @@ import net.minecraft.world.World;
 public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler, IMekanismStrictEnergyHandler, ITileHeatHandler, IGasTracker, IInfusionTracker,
       IPigmentTracker, ISlurryTracker {
 
-    public Set<BlockPos> locations = new ObjectOpenHashSet<>();
-    public final Set<BlockPos> internalLocations = new ObjectOpenHashSet<>();
+    public BlockPosSet locations = new BlockPosSet();
+    public final BlockPosSet internalLocations = new BlockPosSet();
     public Set<ValveData> valves = new ObjectOpenHashSet<>();
 
     /**
@@ -64,7 +66,7 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
      * accurate of checks that get done against this as there is no way to tell if the state actually changed or if the block changed entirely, but assuming no one is
      * replacing the blocks inside of a multiblock (which is unsupported) it will handle it fine, and we can easily special case it becoming air as having been "broken"
      */
-    public Set<BlockPos> innerNodes = new ObjectOpenHashSet<>();
+    public BlockPosSet innerNodes = new BlockPosSet();
 
     @ContainerSync(getter = "getVolume", setter = "setVolume")
     private int volume;
@@ -130,8 +132,9 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     }
 
     public void onCreated(World world) {
-        for (BlockPos pos : internalLocations) {
-            TileEntityInternalMultiblock tile = WorldUtils.getTileEntity(TileEntityInternalMultiblock.class, world, pos);
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (LongIterator iterator = internalLocations.longIterator(); iterator.hasNext(); ) {
+            TileEntityInternalMultiblock tile = WorldUtils.getTileEntity(TileEntityInternalMultiblock.class, world, pos.setPos(iterator.nextLong()));
             if (tile != null) {
                 tile.setMultiblock(inventoryID);
             }
@@ -184,8 +187,9 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     }
 
     public void remove(World world) {
-        for (BlockPos pos : internalLocations) {
-            TileEntityInternalMultiblock tile = WorldUtils.getTileEntity(TileEntityInternalMultiblock.class, world, pos);
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (LongIterator iterator = internalLocations.longIterator(); iterator.hasNext(); ) {
+            TileEntityInternalMultiblock tile = WorldUtils.getTileEntity(TileEntityInternalMultiblock.class, world, pos.setPos(iterator.nextLong()));
             if (tile != null) {
                 tile.setMultiblock(null);
             }
@@ -310,7 +314,7 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     public Set<Direction> getDirectionsToEmit(BlockPos pos) {
         Set<Direction> directionsToEmit = EnumSet.noneOf(Direction.class);
         for (Direction direction : EnumUtils.DIRECTIONS) {
-            if (!locations.contains(pos.offset(direction))) {
+            if (!locations.contains(BlockPos.offset(pos.toLong(), direction))) {
                 directionsToEmit.add(direction);
             }
         }
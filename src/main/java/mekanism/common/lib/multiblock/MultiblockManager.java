@@ -1,5 +1,6 @@
 package mekanism.common.lib.multiblock;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Map;
@@ -7,10 +8,11 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
-import mekanism.api.Coord4D;
+import mekanism.common.lib.math.voxel.BlockPosSet;
 import mekanism.common.tile.prefab.TileEntityMultiblock;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
 public class MultiblockManager<T extends MultiblockData> {
@@ -67,7 +69,7 @@ public class MultiblockManager<T extends MultiblockData> {
     public void invalidate(IMultiblock<?> multiblock) {
         CacheWrapper cache = inventories.get(multiblock.getCacheID());
         if (cache != null) {
-            cache.locations.remove(Coord4D.get((TileEntity) multiblock));
+            cache.locations.remove(multiblock.getTilePos());
             if (cache.locations.isEmpty()) {
                 inventories.remove(multiblock.getCacheID());
             }
@@ -85,8 +87,9 @@ public class MultiblockManager<T extends MultiblockData> {
      */
     public MultiblockCache<T> pullInventory(World world, UUID id) {
         CacheWrapper toReturn = inventories.get(id);
-        for (Coord4D obj : toReturn.locations) {
-            TileEntity tile = WorldUtils.getTileEntity(TileEntity.class, world, obj.getPos());
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (LongIterator iterator = toReturn.locations.longIterator(); iterator.hasNext(); ) {
+            TileEntity tile = WorldUtils.getTileEntity(TileEntity.class, world, pos.setPos(iterator.nextLong()));
             if (tile instanceof IMultiblock) {
                 ((IMultiblock<?>) tile).resetCache();
             }
@@ -111,14 +114,14 @@ public class MultiblockManager<T extends MultiblockData> {
     private class CacheWrapper {
 
         private MultiblockCache<T> cache;
-        private final Set<Coord4D> locations = new ObjectOpenHashSet<>();
+        private final BlockPosSet locations = new BlockPosSet();
 
         public MultiblockCache<T> getCache() {
             return cache;
         }
 
         public void update(IMultiblock<T> tile, T multiblock) {
-            locations.add(Coord4D.get((TileEntity) tile));
+            locations.add(tile.getTilePos());
             if (multiblock.isFormed()) {
                 if (tile.isMaster()) {
                     // create a new cache for the tile if it needs one
@@ -36,6 +36,7 @@ public class Structure {
 
     private long updateTimestamp;
     private boolean didUpdate;
+    private boolean formationQueued;
 
     private MultiblockData multiblockData;
     private IMultiblock<?> controller;
@@ -100,7 +101,12 @@ public class Structure {
     public <TILE extends TileEntity & IMultiblockBase> void tick(TILE tile) {
         if (!didUpdate && updateTimestamp == tile.getWorld().getGameTime() - 1) {
             didUpdate = true;
-            runUpdate(tile);
+            //Defer forming the structure to the formation queue so that it can be spread out across ticks,
+            // if it is already queued it will form with whatever state it is in when it gets processed
+            if (!formationQueued) {
+                formationQueued = true;
+                FormationQueue.queue(this, tile);
+            }
         }
         if (!isValid()) {
             validate(tile, new Long2ObjectOpenHashMap<>());
@@ -115,6 +121,10 @@ public class Structure {
         return FormationResult.FAIL;
     }
 
+    void onFormationDequeued() {
+        formationQueued = false;
+    }
+
     public void add(Structure s) {
         if (s != this) {
             if (s.controller != null && s.controller.canBeMaster()) {
@@ -1,5 +1,7 @@
 package mekanism.common.lib.radiation;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -7,7 +9,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.IntSupplier;
 import javax.annotation.Nonnull;
@@ -36,15 +37,20 @@ import net.minecraft.inventory.EquipmentSlotType;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.RegistryKey;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.DimensionSavedDataManager;
 import net.minecraft.world.storage.WorldSavedData;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.event.entity.living.LivingEvent.LivingUpdateEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
@@ -74,6 +80,8 @@ import net.minecraftforge.fml.server.ServerLifecycleHooks;
 public class RadiationManager {
 
     private static final String DATA_HANDLER_NAME = "radiation_manager";
+    //Max number of sections per dimension to cache the nearby sources of, once it is reached the cache of the dimension is cleared
+    private static final int MAX_CACHED_SECTIONS = 4_096;
     private static final IntSupplier MAX_RANGE = () -> MekanismConfig.general.radiationChunkCheckRadius.get() * 16;
     private static final Random RAND = new Random();
 
@@ -86,6 +94,11 @@ public class RadiationManager {
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, RadiationScale> playerExposureMap = new Object2ObjectOpenHashMap<>();
+    /**
+     * Dimension -> packed chunk section position -> sources that may be in range of that section.
+     */
+    private final Map<RegistryKey<World>, Long2ObjectMap<RadiationSource[]>> sectionSourceCache = new Object2ObjectOpenHashMap<>();
+    private int cachedSectionRange;
 
     // client fields
     private RadiationScale clientRadiationScale = RadiationScale.NONE;
@@ -108,22 +121,96 @@ public class RadiationManager {
      * @return radiation level (in sV)
      */
     public double getRadiationLevel(Coord4D coord) {
-        Set<Chunk3D> checkChunks = new Chunk3D(coord).expand(MekanismConfig.general.radiationChunkCheckRadius.get());
         double level = BASELINE;
+        if (radiationMap.isEmpty()) {
+            return level;
+        }
+        int maxRange = MAX_RANGE.getAsInt();
+        long maxRangeSq = (long) maxRange * maxRange;
+        for (RadiationSource src : getSourcesNear(coord, maxRange)) {
+            Coord4D pos = src.getPos();
+            long dx = pos.getX() - coord.getX();
+            long dy = pos.getY() - coord.getY();
+            long dz = pos.getZ() - coord.getZ();
+            long distanceSq = dx * dx + dy * dy + dz * dz;
+            // we only compute exposure when within the MAX_RANGE bounds
+            if (distanceSq <= maxRangeSq) {
+                level += src.getMagnitude() / Math.max(1, distanceSq);
+            }
+        }
+        return level;
+    }
+
+    /**
+     * Gets all the sources that may be in range of the chunk section containing the given position. The result is cached per section until a source is added or
+     * removed, so that repeated queries from entities in the same area only have to check the handful of sources that are actually nearby.
+     */
+    private RadiationSource[] getSourcesNear(Coord4D coord, int maxRange) {
+        if (maxRange != cachedSectionRange) {
+            //The check radius changed, so all our cached candidates are invalid
+            sectionSourceCache.clear();
+            cachedSectionRange = maxRange;
+        }
+        int sectionX = coord.getX() >> 4;
+        int sectionY = coord.getY() >> 4;
+        int sectionZ = coord.getZ() >> 4;
+        Long2ObjectMap<RadiationSource[]> dimensionCache = sectionSourceCache.computeIfAbsent(coord.dimension, dim -> new Long2ObjectOpenHashMap<>());
+        long sectionKey = packSection(sectionX, sectionY, sectionZ);
+        RadiationSource[] sources = dimensionCache.get(sectionKey);
+        if (sources == null) {
+            sources = findSourcesNear(coord.dimension, sectionX, sectionY, sectionZ, maxRange);
+            if (dimensionCache.size() >= MAX_CACHED_SECTIONS) {
+                dimensionCache.clear();
+            }
+            dimensionCache.put(sectionKey, sources);
+        }
+        return sources;
+    }
 
-        for (Chunk3D chunk : checkChunks) {
-            if (radiationMap.containsKey(chunk)) {
-                for (RadiationSource src : radiationMap.get(chunk).values()) {
-                    // we only compute exposure when within the MAX_RANGE bounds
-                    if (src.getPos().distanceTo(coord) <= MAX_RANGE.getAsInt()) {
-                        double add = computeExposure(coord, src);
-                        level += add;
+    private RadiationSource[] findSourcesNear(RegistryKey<World> dimension, int sectionX, int sectionY, int sectionZ, int maxRange) {
+        int minX = sectionX << 4, minY = sectionY << 4, minZ = sectionZ << 4;
+        int maxX = minX + 15, maxY = minY + 15, maxZ = minZ + 15;
+        long maxRangeSq = (long) maxRange * maxRange;
+        int chunkRadius = (maxRange >> 4) + 1;
+        List<RadiationSource> found = new ArrayList<>();
+        for (int chunkX = sectionX - chunkRadius; chunkX <= sectionX + chunkRadius; chunkX++) {
+            for (int chunkZ = sectionZ - chunkRadius; chunkZ <= sectionZ + chunkRadius; chunkZ++) {
+                Map<Coord4D, RadiationSource> chunkSources = radiationMap.get(new Chunk3D(chunkX, chunkZ, dimension));
+                if (chunkSources != null) {
+                    for (RadiationSource source : chunkSources.values()) {
+                        //Keep any source that is in range of at least one position in the section
+                        Coord4D pos = source.getPos();
+                        long dx = distanceToRange(pos.getX(), minX, maxX);
+                        long dy = distanceToRange(pos.getY(), minY, maxY);
+                        long dz = distanceToRange(pos.getZ(), minZ, maxZ);
+                        if (dx * dx + dy * dy + dz * dz <= maxRangeSq) {
+                            found.add(source);
+                        }
                     }
                 }
             }
         }
+        return found.toArray(new RadiationSource[0]);
+    }
 
-        return level;
+    private static long distanceToRange(int value, int min, int max) {
+        if (value < min) {
+            return min - value;
+        } else if (value > max) {
+            return value - max;
+        }
+        return 0;
+    }
+
+    private static long packSection(int sectionX, int sectionY, int sectionZ) {
+        return (sectionX & 0x3FFFFFL) << 42 | (sectionY & 0xFFFFFL) << 22 | (sectionZ & 0x3FFFFFL);
+    }
+
+    /**
+     * Invalidates the cached section candidates, should be called whenever a source is added or removed.
+     */
+    private void onSourcesChanged() {
+        sectionSourceCache.clear();
     }
 
     public void radiate(Coord4D coord, double magnitude) {
@@ -141,6 +228,7 @@ public class RadiationManager {
         }
         if (!found) {
             radiationMap.computeIfAbsent(new Chunk3D(coord), c -> new Object2ObjectOpenHashMap<>()).put(coord, new RadiationSource(coord, magnitude));
+            onSourcesChanged();
         }
     }
 
@@ -159,10 +247,7 @@ public class RadiationManager {
 
     public void clearSources() {
         radiationMap.clear();
-    }
-
-    private double computeExposure(Coord4D coord, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, Math.pow(coord.distanceTo(source.getPos()), 2));
+        onSourcesChanged();
     }
 
     private double getRadiationResistance(LivingEntity entity) {
@@ -260,6 +345,7 @@ public class RadiationManager {
                     if (entry.getValue().decay()) {
                         // remove if source gets too low
                         iter.remove();
+                        onSourcesChanged();
                     }
 
                     dataHandler.markDirty();
@@ -299,6 +385,33 @@ public class RadiationManager {
         playerExposureMap.remove(uuid);
     }
 
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        IWorld world = event.getWorld();
+        if (world instanceof World) {
+            RegistryKey<World> dimension = ((World) world).getDimensionKey();
+            Long2ObjectMap<RadiationSource[]> dimensionCache = sectionSourceCache.get(dimension);
+            if (dimensionCache != null) {
+                ChunkPos pos = event.getChunk().getPos();
+                //Entities can be outside the build height, so also remove the sections right above and below it
+                for (int sectionY = -1; sectionY <= 16; sectionY++) {
+                    dimensionCache.remove(packSection(pos.x, sectionY, pos.z));
+                }
+                if (dimensionCache.isEmpty()) {
+                    sectionSourceCache.remove(dimension);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        IWorld world = event.getWorld();
+        if (world instanceof World) {
+            sectionSourceCache.remove(((World) world).getDimensionKey());
+        }
+    }
+
     @SubscribeEvent
     public void onLivingUpdate(LivingUpdateEvent event) {
         World world = event.getEntityLiving().getEntityWorld();
@@ -404,6 +517,7 @@ public class RadiationManager {
                     Chunk3D chunk = new Chunk3D(source.getPos());
                     manager.radiationMap.computeIfAbsent(chunk, c -> new Object2ObjectOpenHashMap<>()).put(source.getPos(), source);
                 }
+                manager.onSourcesChanged();
             }
         }
 
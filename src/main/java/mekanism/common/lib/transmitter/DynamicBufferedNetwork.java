@@ -25,6 +25,7 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     private boolean forceScaleUpdate;
     private long lastSaveShareWriteTime;
     private long lastMarkDirtyTime;
+    private boolean scaleChanged;
     public float currentScale;
 
     protected DynamicBufferedNetwork() {
@@ -40,12 +41,34 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     public void onUpdate() {
         super.onUpdate();
         float scale = computeContentScale();
-        if (scale != currentScale) {
+        scaleChanged = scale != currentScale;
+        if (scaleChanged) {
             currentScale = scale;
             needsUpdate = true;
         }
     }
 
+    /**
+     * @return {@code true} if the buffer of this network is empty.
+     */
+    protected abstract boolean isBufferEmpty();
+
+    /**
+     * @return {@code true} if this network transferred anything to its acceptors during the last update.
+     */
+    protected abstract boolean hasTransferred();
+
+    @Override
+    protected boolean isIdle() {
+        //Make sure our scale has finished settling before we let the network sleep, so that clients get the final value
+        return !scaleChanged && !hasTransferred();
+    }
+
+    @Override
+    protected boolean canSleepUntilWoken() {
+        return isIdle() && isBufferEmpty();
+    }
+
     @Override
     public void addNewTransmitters(Collection<TRANSMITTER> newTransmitters) {
         super.addNewTransmitters(newTransmitters);
@@ -166,6 +189,8 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     }
 
     public void markDirty() {
+        //Contents changed, so wake up in case we were sleeping and can now transfer something
+        wake();
         if (world != null && !world.isRemote && world.getGameTime() != lastMarkDirtyTime) {
             lastMarkDirtyTime = world.getGameTime();
             chunks.forEach((LongConsumer) chunk -> WorldUtils.markChunkDirty(world, WorldUtils.getBlockPosFromChunkPos(chunk)));
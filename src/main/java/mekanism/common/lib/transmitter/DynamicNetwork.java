@@ -9,6 +9,7 @@ import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.text.IHasTextComponent;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache;
 import mekanism.common.util.EnumUtils;
@@ -26,6 +27,12 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     @Nullable
     protected World world;
     private final UUID uuid;
+    private boolean sleeping;
+    /**
+     * Number of ticks left before a sleeping network checks if it can do anything again, or {@code -1} if it sleeps until woken.
+     */
+    private int sleepTicks;
+    private int sleepBackoff;
 
     protected DynamicNetwork() {
         this(UUID.randomUUID());
@@ -48,6 +55,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public void commit() {
+        wake();
         if (!transmittersToAdd.isEmpty()) {
             boolean addedValidTransmitters = false;
             List<TRANSMITTER> transmittersToUpdate = new ArrayList<>();
@@ -118,9 +126,11 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
     public void acceptorChanged(TRANSMITTER transmitter, Direction side) {
         acceptorCache.acceptorChanged(transmitter, side);
+        wake();
     }
 
     public List<TRANSMITTER> adoptTransmittersAndAcceptorsFrom(NETWORK net) {
+        wake();
         List<TRANSMITTER> transmittersToUpdate = new ArrayList<>();
         for (TRANSMITTER transmitter : net.transmitters) {
             transmitters.add(transmitter);
@@ -182,16 +192,83 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void onUpdate() {
     }
 
+    /**
+     * Checks if this network is idle after an update, meaning that it did not transfer anything or change any state. Idle networks go to sleep and are only checked
+     * again after an exponentially increasing number of ticks, unless something wakes them before then.
+     *
+     * @apiNote Only called on the server
+     */
+    protected boolean isIdle() {
+        return false;
+    }
+
+    /**
+     * Checks if this network has nothing it could possibly do until something about it changes, for example if its buffer is empty. Such networks sleep until woken.
+     *
+     * @apiNote Only called on the server
+     */
+    protected boolean canSleepUntilWoken() {
+        return false;
+    }
+
+    /**
+     * Wakes this network up so that it gets updated again next tick. Should be called whenever something changes that may allow an idle network to do something, such
+     * as its buffer being inserted into, or its transmitters or acceptors changing.
+     */
+    public void wake() {
+        sleeping = false;
+        sleepBackoff = 0;
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * @return {@code true} if this network should be updated this tick, {@code false} if it is sleeping.
+     */
+    boolean tickSleep() {
+        if (sleeping) {
+            if (sleepTicks == -1 || --sleepTicks > 0) {
+                return false;
+            }
+            //Our backoff expired, check again if we can do anything
+            sleeping = false;
+        }
+        return true;
+    }
+
+    /**
+     * Called after this network has been updated to put it to sleep if it is idle.
+     */
+    void updateSleepState() {
+        int maxSleepTicks = MekanismConfig.general.maxNetworkSleepTicks.get();
+        if (maxSleepTicks > 0) {
+            if (canSleepUntilWoken()) {
+                sleeping = true;
+                sleepTicks = -1;
+            } else if (isIdle()) {
+                sleepBackoff = sleepBackoff == 0 ? 1 : Math.min(2 * sleepBackoff, maxSleepTicks);
+                sleeping = true;
+                sleepTicks = sleepBackoff;
+            } else {
+                sleepBackoff = 0;
+            }
+        }
+    }
+
     public Set<TRANSMITTER> getTransmitters() {
         return transmitters;
     }
 
     public void addTransmitter(TRANSMITTER transmitter) {
         transmitters.add(transmitter);
+        wake();
     }
 
     public void removeTransmitter(TRANSMITTER transmitter) {
         transmitters.remove(transmitter);
+        wake();
         if (transmitters.isEmpty()) {
             deregister();
         }
@@ -34,6 +34,8 @@ public class TransmitterNetworkRegistry {
     private Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters = new Object2ObjectOpenHashMap<>();
     private final Map<Coord4D, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private final Map<UUID, DynamicNetwork<?, ?, ?>> clientNetworks = new Object2ObjectOpenHashMap<>();
+    private int activeNetworks;
+    private int sleepingNetworks;
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
@@ -67,6 +69,8 @@ public class TransmitterNetworkRegistry {
         getInstance().invalidTransmitters.clear();
         getInstance().orphanTransmitters.clear();
         getInstance().newOrphanTransmitters.clear();
+        getInstance().activeNetworks = 0;
+        getInstance().sleepingNetworks = 0;
     }
 
     public static void invalidateTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -104,12 +108,33 @@ public class TransmitterNetworkRegistry {
             removeInvalidTransmitters();
             assignOrphans();
             commitChanges();
+            int active = 0;
             for (DynamicNetwork<?, ?, ?> net : networks) {
-                net.onUpdate();
+                if (net.tickSleep()) {
+                    net.onUpdate();
+                    net.updateSleepState();
+                    active++;
+                }
             }
+            activeNetworks = active;
+            sleepingNetworks = networks.size() - active;
         }
     }
 
+    /**
+     * @return The number of networks that were updated during the last server tick.
+     */
+    public int getActiveNetworkCount() {
+        return activeNetworks;
+    }
+
+    /**
+     * @return The number of networks that were sleeping during the last server tick.
+     */
+    public int getSleepingNetworkCount() {
+        return sleepingNetworks;
+    }
+
     private void removeInvalidTransmitters() {
         if (MekanismAPI.debug && !invalidTransmitters.isEmpty()) {
             Mekanism.logger.info("Dealing with {} invalid Transmitters", invalidTransmitters.size());
@@ -1,25 +1,48 @@
 package mekanism.common.lib.transmitter.acceptor;
 
+import com.google.common.collect.MapMaker;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.WorldUtils;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
 import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.common.util.NonNullConsumer;
 
 public class NetworkAcceptorCache<ACCEPTOR> {
 
+    //Single invalidation listener per capability instance, shared by the entries of all networks. Capabilities such as the item handlers of vanilla inventories are
+    // long lived and shared across sides, so adding a listener for each entry we create would keep adding listeners to them
+    private static final Map<LazyOptional<?>, InvalidationListener<?>> LISTENERS = new MapMaker().weakKeys().makeMap();
+
     private final Map<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    private int version;
+    //Flattened view of the cached acceptors, sorted by chunk and then position so that the sides of an acceptor and the acceptors of a chunk are next to each other
+    private final List<CachedAcceptor<ACCEPTOR>> flatAcceptors = new ArrayList<>();
+    private int flatVersion = -1;
+    private int liveVersion;
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         LazyOptional<ACCEPTOR> acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : LazyOptional.empty();
         BlockPos acceptorPos = transmitter.getTilePos().offset(side);
+        version++;
         if (acceptor.isPresent()) {
             cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
         } else if (cachedAcceptors.containsKey(acceptorPos)) {
@@ -34,6 +57,7 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
+        version++;
         for (Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> entry : other.cachedAcceptors.entrySet()) {
             BlockPos pos = entry.getKey();
             if (cachedAcceptors.containsKey(pos)) {
@@ -66,10 +90,99 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     /**
-     * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
+     * @return A counter that changes whenever the cached acceptors may have changed, allowing networks to cache data derived from the acceptors.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the resolved acceptors of this network as a flat list, grouped by position. The list is only rebuilt when the cached acceptors change, and the liveness of
+     * the entries is updated each time this is called: entries are no longer live once their capability got invalidated, or while their chunk is not ticking.
+     *
+     * @param world The world of the network, used to check if the chunks of the acceptors are ticking.
+     *
+     * @apiNote The returned list should not be modified, and entries that are not {@link CachedAcceptor#isLive() live} should be skipped.
+     */
+    public List<CachedAcceptor<ACCEPTOR>> getAcceptors(@Nullable World world) {
+        if (flatVersion != version) {
+            rebuildFlatAcceptors();
+        }
+        long lastChunk = 0;
+        boolean chunkLoaded = false;
+        for (int i = 0, size = flatAcceptors.size(); i < size; i++) {
+            CachedAcceptor<ACCEPTOR> acceptor = flatAcceptors.get(i);
+            if (i == 0 || acceptor.chunk != lastChunk) {
+                //Only check once per chunk if it is ticking
+                lastChunk = acceptor.chunk;
+                chunkLoaded = WorldUtils.isBlockTicking(world, acceptor.pos);
+            }
+            boolean live = acceptor.valid && chunkLoaded;
+            if (live != acceptor.live) {
+                acceptor.live = live;
+                liveVersion++;
+            }
+        }
+        return flatAcceptors;
+    }
+
+    /**
+     * @return A counter that changes whenever the acceptors returned by {@link #getAcceptors(World)} or their liveness changed.
      */
-    public Set<Map.Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>>> getAcceptorEntrySet() {
-        return cachedAcceptors.entrySet();
+    public int getLiveVersion() {
+        return liveVersion;
+    }
+
+    private void rebuildFlatAcceptors() {
+        //Reuse the entries of acceptors that did not change
+        Map<BlockPos, Map<Direction, CachedAcceptor<ACCEPTOR>>> previous = new Object2ObjectOpenHashMap<>(flatAcceptors.size());
+        for (CachedAcceptor<ACCEPTOR> acceptor : flatAcceptors) {
+            previous.computeIfAbsent(acceptor.pos, pos -> new EnumMap<>(Direction.class)).put(acceptor.side, acceptor);
+        }
+        flatAcceptors.clear();
+        List<BlockPos> positions = new ArrayList<>(cachedAcceptors.keySet());
+        positions.sort(Comparator.<BlockPos>comparingLong(pos -> ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4)).thenComparingLong(BlockPos::toLong));
+        for (BlockPos pos : positions) {
+            Map<Direction, CachedAcceptor<ACCEPTOR>> previousSides = previous.get(pos);
+            for (Entry<Direction, LazyOptional<ACCEPTOR>> entry : cachedAcceptors.get(pos).entrySet()) {
+                LazyOptional<ACCEPTOR> lazyAcceptor = entry.getValue();
+                CachedAcceptor<ACCEPTOR> acceptor = previousSides == null ? null : previousSides.get(entry.getKey());
+                if (acceptor != null && acceptor.lazyAcceptor == lazyAcceptor) {
+                    previousSides.remove(entry.getKey());
+                } else {
+                    Optional<ACCEPTOR> resolved = lazyAcceptor.resolve();
+                    if (!resolved.isPresent()) {
+                        //Already invalidated, the transmitter will update its acceptor once the position is loaded again
+                        continue;
+                    }
+                    acceptor = new CachedAcceptor<>(pos, entry.getKey(), lazyAcceptor, resolved.get());
+                    getListener(lazyAcceptor).entries.add(acceptor);
+                }
+                flatAcceptors.add(acceptor);
+            }
+        }
+        //Stop listening for the entries we dropped
+        for (Map<Direction, CachedAcceptor<ACCEPTOR>> droppedSides : previous.values()) {
+            for (CachedAcceptor<ACCEPTOR> dropped : droppedSides.values()) {
+                InvalidationListener<?> listener = LISTENERS.get(dropped.lazyAcceptor);
+                if (listener != null) {
+                    listener.entries.remove(dropped);
+                }
+            }
+        }
+        flatVersion = version;
+        liveVersion++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <ACCEPTOR> InvalidationListener<ACCEPTOR> getListener(LazyOptional<ACCEPTOR> lazyAcceptor) {
+        InvalidationListener<ACCEPTOR> listener = (InvalidationListener<ACCEPTOR>) LISTENERS.get(lazyAcceptor);
+        if (listener == null) {
+            listener = new InvalidationListener<>();
+            LISTENERS.put(lazyAcceptor, listener);
+            lazyAcceptor.addListener(listener);
+        }
+        return listener;
     }
 
     public int getAcceptorCount() {
@@ -85,4 +198,66 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         //TODO: Do this better?
         return cachedAcceptors.get(pos).keySet();
     }
-}
\ No newline at end of file
+
+    /**
+     * A resolved acceptor of the network.
+     *
+     * @implNote The capability listener only lets us skip the acceptor before the transmitter next to it updates the network's acceptors. Some capabilities, such as
+     * wrapped energy handlers, never get invalidated themselves, in which case the acceptor is removed once the network's acceptors get updated.
+     */
+    public static class CachedAcceptor<ACCEPTOR> {
+
+        private final BlockPos pos;
+        private final long chunk;
+        private final Direction side;
+        private final LazyOptional<ACCEPTOR> lazyAcceptor;
+        private final ACCEPTOR acceptor;
+        private boolean valid = true;
+        private boolean live;
+
+        private CachedAcceptor(BlockPos pos, Direction side, LazyOptional<ACCEPTOR> lazyAcceptor, ACCEPTOR acceptor) {
+            this.pos = pos;
+            this.chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+            this.side = side;
+            this.lazyAcceptor = lazyAcceptor;
+            this.acceptor = acceptor;
+        }
+
+        public BlockPos getPos() {
+            return pos;
+        }
+
+        /**
+         * @return The side of the acceptor that faces the transmitter.
+         */
+        public Direction getSide() {
+            return side;
+        }
+
+        public ACCEPTOR getAcceptor() {
+            return acceptor;
+        }
+
+        public boolean isLive() {
+            return live;
+        }
+    }
+
+    /**
+     * Marks the entries of a capability as no longer valid once it gets invalidated. Only holds the entries weakly, so entries of networks that no longer exist don't
+     * stay reachable.
+     */
+    private static class InvalidationListener<ACCEPTOR> implements NonNullConsumer<LazyOptional<ACCEPTOR>> {
+
+        private final Set<CachedAcceptor<ACCEPTOR>> entries = Collections.newSetFromMap(new WeakHashMap<>());
+
+        @Override
+        public void accept(@Nonnull LazyOptional<ACCEPTOR> lazyAcceptor) {
+            for (CachedAcceptor<ACCEPTOR> entry : entries) {
+                entry.valid = false;
+            }
+            entries.clear();
+            LISTENERS.remove(lazyAcceptor);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package mekanism.common.network;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -10,6 +13,7 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.PlayerList;
@@ -93,6 +97,22 @@ public abstract class BasePacketHandler {
         getChannel().sendTo(message, player.connection.getNetworkManager(), NetworkDirection.PLAY_TO_CLIENT);
     }
 
+    /**
+     * Send this message to the specified players. The message only gets encoded once, and the resulting packet is shared between all the players.
+     *
+     * @param message - the message to send
+     * @param players - the players to send it to
+     */
+    public <MSG> void sendTo(MSG message, Collection<ServerPlayerEntity> players) {
+        if (!players.isEmpty()) {
+            List<NetworkManager> networkManagers = new ArrayList<>(players.size());
+            for (ServerPlayerEntity player : players) {
+                networkManagers.add(player.connection.getNetworkManager());
+            }
+            getChannel().send(PacketDistributor.NMLIST.with(() -> networkManagers), message);
+        }
+    }
+
     /**
      * Send this message to everyone connected to the server.
      *
@@ -1,10 +1,13 @@
 package mekanism.common.network;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMaps;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.function.Supplier;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.lib.inventory.HashedItem.TypeIdAwareHashedItem;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.player.ClientPlayerEntity;
 import net.minecraft.network.PacketBuffer;
@@ -13,27 +16,45 @@ import net.minecraftforge.fml.network.NetworkEvent.Context;
 public class PacketQIOItemViewerGuiSync {
 
     private final Type type;
-    private final Object2LongMap<UUIDAwareHashedItem> itemMap;
+    /**
+     * Types the client may not know about yet, these get sent along with their stack.
+     */
+    private final Object2LongMap<TypeIdAwareHashedItem> itemMap;
+    /**
+     * New counts of types the client already knows about by id, a count of zero means the type was removed.
+     */
+    private final Int2LongMap countMap;
     private final long countCapacity;
     private final int typeCapacity;
 
-    private PacketQIOItemViewerGuiSync(Type type, Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    private PacketQIOItemViewerGuiSync(Type type, Object2LongMap<TypeIdAwareHashedItem> itemMap, Int2LongMap countMap, long countCapacity, int typeCapacity) {
         this.type = type;
         this.itemMap = itemMap;
+        this.countMap = countMap;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
     }
 
-    public static PacketQIOItemViewerGuiSync batch(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.BATCH, itemMap, countCapacity, typeCapacity);
+    /**
+     * First page of the items in a frequency, replaces anything the client had cached.
+     */
+    public static PacketQIOItemViewerGuiSync batch(Object2LongMap<TypeIdAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.BATCH, itemMap, Int2LongMaps.EMPTY_MAP, countCapacity, typeCapacity);
     }
 
-    public static PacketQIOItemViewerGuiSync update(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, itemMap, countCapacity, typeCapacity);
+    /**
+     * Subsequent page of the items in a frequency, adds to what the client has cached.
+     */
+    public static PacketQIOItemViewerGuiSync batchPage(Object2LongMap<TypeIdAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.BATCH_PAGE, itemMap, Int2LongMaps.EMPTY_MAP, countCapacity, typeCapacity);
+    }
+
+    public static PacketQIOItemViewerGuiSync update(Object2LongMap<TypeIdAwareHashedItem> itemMap, Int2LongMap countMap, long countCapacity, int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.UPDATE, itemMap, countMap, countCapacity, typeCapacity);
     }
 
     public static PacketQIOItemViewerGuiSync kill() {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, null, 0, 0);
+        return new PacketQIOItemViewerGuiSync(Type.KILL, null, null, 0, 0);
     }
 
     public static void handle(PacketQIOItemViewerGuiSync message, Supplier<Context> context) {
@@ -46,8 +67,9 @@ public class PacketQIOItemViewerGuiSync {
                     case BATCH:
                         container.handleBatchUpdate(message.itemMap, message.countCapacity, message.typeCapacity);
                         break;
+                    case BATCH_PAGE:
                     case UPDATE:
-                        container.handleUpdate(message.itemMap, message.countCapacity, message.typeCapacity);
+                        container.handleUpdate(message.itemMap, message.countMap, message.countCapacity, message.typeCapacity);
                         break;
                     case KILL:
                         container.handleKill();
@@ -60,21 +82,24 @@ public class PacketQIOItemViewerGuiSync {
 
     public static void encode(PacketQIOItemViewerGuiSync pkt, PacketBuffer buf) {
         buf.writeEnumValue(pkt.type);
-        if (pkt.type == Type.BATCH || pkt.type == Type.UPDATE) {
+        if (pkt.type != Type.KILL) {
             buf.writeVarLong(pkt.countCapacity);
             buf.writeVarInt(pkt.typeCapacity);
             buf.writeVarInt(pkt.itemMap.size());
-            pkt.itemMap.forEach((key, value) -> {
+            for (Object2LongMap.Entry<TypeIdAwareHashedItem> entry : pkt.itemMap.object2LongEntrySet()) {
+                TypeIdAwareHashedItem key = entry.getKey();
                 buf.writeItemStack(key.getStack());
-                if (key.getUUID() == null) {
-                    //Shouldn't be null unless something failed, but if it does try to handle it relatively gracefully
-                    buf.writeBoolean(false);
-                } else {
-                    buf.writeBoolean(true);
-                    buf.writeUniqueId(key.getUUID());
+                //Note: The id shouldn't be NO_ID unless something failed, but if it is, it gets written as zero and the client handles it relatively gracefully
+                buf.writeVarInt(key.getTypeId() + 1);
+                buf.writeVarLong(entry.getLongValue());
+            }
+            if (pkt.type == Type.UPDATE) {
+                buf.writeVarInt(pkt.countMap.size());
+                for (Int2LongMap.Entry entry : pkt.countMap.int2LongEntrySet()) {
+                    buf.writeVarInt(entry.getIntKey());
+                    buf.writeVarLong(entry.getLongValue());
                 }
-                buf.writeVarLong(value);
-            });
+            }
         }
     }
 
@@ -82,21 +107,32 @@ public class PacketQIOItemViewerGuiSync {
         Type type = buf.readEnumValue(Type.class);
         long countCapacity = 0;
         int typeCapacity = 0;
-        Object2LongMap<UUIDAwareHashedItem> map = null;
-        if (type == Type.BATCH || type == Type.UPDATE) {
+        Object2LongMap<TypeIdAwareHashedItem> map = null;
+        Int2LongMap countMap = null;
+        if (type != Type.KILL) {
             countCapacity = buf.readVarLong();
             typeCapacity = buf.readVarInt();
             int count = buf.readVarInt();
             map = new Object2LongOpenHashMap<>(count);
             for (int i = 0; i < count; i++) {
-                map.put(new UUIDAwareHashedItem(buf.readItemStack(), buf.readBoolean() ? buf.readUniqueId() : null), buf.readVarLong());
+                map.put(new TypeIdAwareHashedItem(buf.readItemStack(), buf.readVarInt() - 1), buf.readVarLong());
+            }
+            if (type == Type.UPDATE) {
+                int changed = buf.readVarInt();
+                countMap = new Int2LongOpenHashMap(changed);
+                for (int i = 0; i < changed; i++) {
+                    countMap.put(buf.readVarInt(), buf.readVarLong());
+                }
+            } else {
+                countMap = Int2LongMaps.EMPTY_MAP;
             }
         }
-        return new PacketQIOItemViewerGuiSync(type, map, countCapacity, typeCapacity);
+        return new PacketQIOItemViewerGuiSync(type, map, countMap, countCapacity, typeCapacity);
     }
 
     public enum Type {
         BATCH,
+        BATCH_PAGE,
         UPDATE,
         KILL;
     }
@@ -1,11 +1,11 @@
 package mekanism.common.network;
 
-import java.util.UUID;
 import java.util.function.Supplier;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.lib.inventory.HashedItem.TypeIdAwareHashedItem;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.StackUtils;
 import net.minecraft.entity.player.ServerPlayerEntity;
@@ -17,25 +17,25 @@ import net.minecraftforge.fml.network.NetworkEvent.Context;
 public class PacketQIOItemViewerSlotInteract {
 
     private final Type type;
-    private final UUID typeUUID;
+    private final int typeId;
     private final int count;
 
-    private PacketQIOItemViewerSlotInteract(Type type, UUID typeUUID, int count) {
+    private PacketQIOItemViewerSlotInteract(Type type, int typeId, int count) {
         this.type = type;
-        this.typeUUID = typeUUID;
+        this.typeId = typeId;
         this.count = count;
     }
 
-    public static PacketQIOItemViewerSlotInteract take(UUID typeUUID, int count) {
-        return new PacketQIOItemViewerSlotInteract(Type.TAKE, typeUUID, count);
+    public static PacketQIOItemViewerSlotInteract take(int typeId, int count) {
+        return new PacketQIOItemViewerSlotInteract(Type.TAKE, typeId, count);
     }
 
     public static PacketQIOItemViewerSlotInteract put(int count) {
-        return new PacketQIOItemViewerSlotInteract(Type.PUT, null, count);
+        return new PacketQIOItemViewerSlotInteract(Type.PUT, TypeIdAwareHashedItem.NO_ID, count);
     }
 
-    public static PacketQIOItemViewerSlotInteract shiftTake(UUID typeUUID) {
-        return new PacketQIOItemViewerSlotInteract(Type.SHIFT_TAKE, typeUUID, 0);
+    public static PacketQIOItemViewerSlotInteract shiftTake(int typeId) {
+        return new PacketQIOItemViewerSlotInteract(Type.SHIFT_TAKE, typeId, 0);
     }
 
     public static void handle(PacketQIOItemViewerSlotInteract message, Supplier<Context> context) {
@@ -48,7 +48,8 @@ public class PacketQIOItemViewerSlotInteract {
                 ItemStack curStack = player.inventory.getItemStack();
                 if (freq != null) {
                     if (message.type == Type.TAKE) {
-                        ItemStack ret = freq.removeByType(freq.getTypeByUUID(message.typeUUID), message.count);
+                        HashedItem itemType = freq.getTypeById(message.typeId);
+                        ItemStack ret = itemType == null ? ItemStack.EMPTY : freq.removeByType(itemType, message.count);
                         if (curStack.isEmpty()) {
                             player.inventory.setItemStack(ret);
                         } else if (InventoryUtils.areItemsStackable(ret, curStack)) {
@@ -56,7 +57,7 @@ public class PacketQIOItemViewerSlotInteract {
                         }
                         player.connection.sendPacket(new SSetSlotPacket(-1, -1, player.inventory.getItemStack()));
                     } else if (message.type == Type.SHIFT_TAKE) {
-                        HashedItem itemType = freq.getTypeByUUID(message.typeUUID);
+                        HashedItem itemType = freq.getTypeById(message.typeId);
                         if (itemType != null) {
                             ItemStack ret = freq.removeByType(itemType, itemType.getStack().getMaxStackSize());
                             ItemStack remainder = container.insertIntoPlayerInventory(ret);
@@ -85,11 +86,11 @@ public class PacketQIOItemViewerSlotInteract {
         buf.writeEnumValue(pkt.type);
         switch (pkt.type) {
             case TAKE:
-                buf.writeUniqueId(pkt.typeUUID);
+                buf.writeVarInt(pkt.typeId);
                 buf.writeVarInt(pkt.count);
                 break;
             case SHIFT_TAKE:
-                buf.writeUniqueId(pkt.typeUUID);
+                buf.writeVarInt(pkt.typeId);
                 break;
             case PUT:
                 buf.writeVarInt(pkt.count);
@@ -99,21 +100,21 @@ public class PacketQIOItemViewerSlotInteract {
 
     public static PacketQIOItemViewerSlotInteract decode(PacketBuffer buf) {
         Type type = buf.readEnumValue(Type.class);
-        UUID typeUUID = null;
+        int typeId = TypeIdAwareHashedItem.NO_ID;
         int count = 0;
         switch (type) {
             case TAKE:
-                typeUUID = buf.readUniqueId();
+                typeId = buf.readVarInt();
                 count = buf.readVarInt();
                 break;
             case SHIFT_TAKE:
-                typeUUID = buf.readUniqueId();
+                typeId = buf.readVarInt();
                 break;
             case PUT:
                 count = buf.readVarInt();
                 break;
         }
-        return new PacketQIOItemViewerSlotInteract(type, typeUUID, count);
+        return new PacketQIOItemViewerSlotInteract(type, typeId, count);
     }
 
     public enum Type {
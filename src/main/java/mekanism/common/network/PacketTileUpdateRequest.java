@@ -0,0 +1,50 @@
+package mekanism.common.network;
+
+import java.util.function.Supplier;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Sent by the client when it receives a partial tile update without knowing the update tag it is relative to, see {@link TileUpdateScheduler}.
+ */
+public class PacketTileUpdateRequest {
+
+    private final BlockPos pos;
+
+    public PacketTileUpdateRequest(BlockPos pos) {
+        this.pos = pos;
+    }
+
+    public static void handle(PacketTileUpdateRequest message, Supplier<Context> context) {
+        Context ctx = context.get();
+        ctx.enqueueWork(() -> {
+            ServerPlayerEntity player = ctx.getSender();
+            if (player != null) {
+                ServerWorld world = player.getServerWorld();
+                //Only send updates of tiles in chunks the player is actually tracking
+                if (world.getChunkProvider().chunkManager.getTrackingPlayers(new ChunkPos(message.pos), false).anyMatch(p -> p == player)) {
+                    TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, message.pos);
+                    if (tile != null && !tile.isRemoved()) {
+                        tile.resetUpdateBaseline();
+                        tile.sendUpdatePacket();
+                    }
+                }
+            }
+        });
+        ctx.setPacketHandled(true);
+    }
+
+    public static void encode(PacketTileUpdateRequest pkt, PacketBuffer buf) {
+        buf.writeBlockPos(pkt.pos);
+    }
+
+    public static PacketTileUpdateRequest decode(PacketBuffer buf) {
+        return new PacketTileUpdateRequest(buf.readBlockPos());
+    }
+}
@@ -1,28 +1,30 @@
 package mekanism.common.network;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import mekanism.common.Mekanism;
 import mekanism.common.tile.base.TileEntityUpdateable;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.network.NetworkEvent.Context;
 
+/**
+ * Batch of tile updates for the tiles of a single chunk, see {@link TileUpdateScheduler}.
+ */
 public class PacketUpdateTile {
 
-    private final CompoundNBT updateTag;
-    private final BlockPos pos;
+    private final List<TileUpdate> updates;
 
-    public PacketUpdateTile(TileEntityUpdateable tile) {
-        this(tile.getPos(), tile.getReducedUpdateTag());
-    }
-
-    private PacketUpdateTile(BlockPos pos, CompoundNBT updateTag) {
-        this.pos = pos;
-        this.updateTag = updateTag;
+    public PacketUpdateTile(List<TileUpdate> updates) {
+        this.updates = updates;
     }
 
     public static void handle(PacketUpdateTile message, Supplier<Context> context) {
@@ -30,12 +32,14 @@ public class PacketUpdateTile {
         ctx.enqueueWork(() -> {
             ClientWorld world = Minecraft.getInstance().world;
             if (world != null) {
-                TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, message.pos, true);
-                if (tile == null) {
-                    Mekanism.logger.info("Update tile packet received for position: {} in world: {}, but no valid tile was found.", message.pos,
-                          world.getDimensionKey().getLocation());
-                } else {
-                    tile.handleUpdatePacket(message.updateTag);
+                for (TileUpdate update : message.updates) {
+                    TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, update.pos, true);
+                    if (tile == null) {
+                        Mekanism.logger.info("Update tile packet received for position: {} in world: {}, but no valid tile was found.", update.pos,
+                              world.getDimensionKey().getLocation());
+                    } else {
+                        tile.handleUpdatePacket(update);
+                    }
                 }
             }
         });
@@ -43,11 +47,116 @@ public class PacketUpdateTile {
     }
 
     public static void encode(PacketUpdateTile pkt, PacketBuffer buf) {
-        buf.writeBlockPos(pkt.pos);
-        buf.writeCompoundTag(pkt.updateTag);
+        buf.writeVarInt(pkt.updates.size());
+        for (TileUpdate update : pkt.updates) {
+            update.write(buf);
+        }
     }
 
     public static PacketUpdateTile decode(PacketBuffer buf) {
-        return new PacketUpdateTile(buf.readBlockPos(), buf.readCompoundTag());
+        int count = buf.readVarInt();
+        List<TileUpdate> updates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            updates.add(TileUpdate.read(buf));
+        }
+        return new PacketUpdateTile(updates);
+    }
+
+    /**
+     * Update of a single tile, either the full update tag or only the top level entries that changed since the last update sent to the same players.
+     */
+    public static class TileUpdate {
+
+        private final BlockPos pos;
+        private final boolean full;
+        private final CompoundNBT tag;
+        private final List<String> removedKeys;
+
+        private TileUpdate(BlockPos pos, boolean full, CompoundNBT tag, List<String> removedKeys) {
+            this.pos = pos;
+            this.full = full;
+            this.tag = tag;
+            this.removedKeys = removedKeys;
+        }
+
+        public static TileUpdate full(BlockPos pos, CompoundNBT updateTag) {
+            return new TileUpdate(pos, true, updateTag, Collections.emptyList());
+        }
+
+        /**
+         * @return the entries of the update tag that changed since the last update, or {@code null} if nothing changed.
+         */
+        @Nullable
+        public static TileUpdate delta(BlockPos pos, CompoundNBT lastTag, CompoundNBT updateTag) {
+            CompoundNBT changed = new CompoundNBT();
+            for (String key : updateTag.keySet()) {
+                INBT value = updateTag.get(key);
+                if (!value.equals(lastTag.get(key))) {
+                    changed.put(key, value);
+                }
+            }
+            List<String> removedKeys = new ArrayList<>();
+            for (String key : lastTag.keySet()) {
+                if (!updateTag.contains(key)) {
+                    removedKeys.add(key);
+                }
+            }
+            if (changed.isEmpty() && removedKeys.isEmpty()) {
+                return null;
+            }
+            return new TileUpdate(pos, false, changed, removedKeys);
+        }
+
+        /**
+         * Applies this update to the last update tag the client received for the tile.
+         *
+         * @return the resulting update tag, or {@code null} if this is a partial update and the client doesn't know the last update tag.
+         */
+        @Nullable
+        public CompoundNBT apply(@Nullable CompoundNBT lastTag) {
+            if (full) {
+                return tag;
+            } else if (lastTag == null) {
+                return null;
+            }
+            for (String key : removedKeys) {
+                lastTag.remove(key);
+            }
+            for (String key : tag.keySet()) {
+                lastTag.put(key, tag.get(key));
+            }
+            return lastTag;
+        }
+
+        public BlockPos getPos() {
+            return pos;
+        }
+
+        private void write(PacketBuffer buf) {
+            buf.writeBlockPos(pos);
+            buf.writeBoolean(full);
+            buf.writeCompoundTag(tag);
+            if (!full) {
+                buf.writeVarInt(removedKeys.size());
+                for (String key : removedKeys) {
+                    buf.writeString(key);
+                }
+            }
+        }
+
+        private static TileUpdate read(PacketBuffer buf) {
+            BlockPos pos = buf.readBlockPos();
+            boolean full = buf.readBoolean();
+            CompoundNBT tag = buf.readCompoundTag();
+            if (full) {
+                return full(pos, tag);
+            }
+            int removed = buf.readVarInt();
+            List<String> removedKeys = new ArrayList<>(removed);
+            for (int i = 0; i < removed; i++) {
+                removedKeys.add(BasePacketHandler.readString(buf));
+            }
+            return new TileUpdate(pos, false, tag, removedKeys);
+        }
     }
-}
\ No newline at end of file
+}
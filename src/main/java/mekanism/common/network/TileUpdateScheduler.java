@@ -0,0 +1,111 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.PacketUpdateTile.TileUpdate;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.world.ChunkWatchEvent;
+
+/**
+ * Collects update requests of tiles and sends them at the end of the server tick. Repeated requests of a tile within the configured update interval are merged into
+ * a single update, only the parts of the update tag that changed since the last update are sent, and the updates of all the tiles in a chunk are sent as one packet
+ * that is encoded once for all players tracking the chunk.
+ */
+public class TileUpdateScheduler {
+
+    //World -> chunk of the tracking tile -> tiles with a pending update, mapped to the tile whose trackers should receive it
+    private static final Map<ServerWorld, Long2ObjectMap<Map<TileEntityUpdateable, TileEntity>>> pendingUpdates = new Object2ObjectOpenHashMap<>();
+    private static int ticksSinceFlush;
+
+    private TileUpdateScheduler() {
+    }
+
+    public static void queue(TileEntityUpdateable tile, TileEntity tracking) {
+        World world = tracking.getWorld();
+        if (world instanceof ServerWorld) {
+            pendingUpdates.computeIfAbsent((ServerWorld) world, w -> new Long2ObjectOpenHashMap<>())
+                  .computeIfAbsent(ChunkPos.asLong(tracking.getPos().getX() >> 4, tracking.getPos().getZ() >> 4), chunk -> new Object2ObjectLinkedOpenHashMap<>())
+                  .put(tile, tracking);
+        } else {
+            //Some mod did something odd and our world is not a ServerWorld, just send the full update directly
+            tile.resetUpdateBaseline();
+            Mekanism.packetHandler.sendToAllTracking(new PacketUpdateTile(Collections.singletonList(TileUpdate.full(tile.getPos(), tile.getReducedUpdateTag()))),
+                  tracking);
+        }
+    }
+
+    public static void tick() {
+        if (++ticksSinceFlush >= MekanismConfig.general.tileUpdateInterval.get()) {
+            ticksSinceFlush = 0;
+            flush();
+        }
+    }
+
+    private static void flush() {
+        if (pendingUpdates.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<ServerWorld, Long2ObjectMap<Map<TileEntityUpdateable, TileEntity>>> worldEntry : pendingUpdates.entrySet()) {
+            ServerWorld world = worldEntry.getKey();
+            for (Long2ObjectMap.Entry<Map<TileEntityUpdateable, TileEntity>> chunkEntry : worldEntry.getValue().long2ObjectEntrySet()) {
+                Set<ServerPlayerEntity> players = world.getChunkProvider().chunkManager.getTrackingPlayers(new ChunkPos(chunkEntry.getLongKey()), false)
+                      .collect(Collectors.toCollection(ObjectOpenHashSet::new));
+                List<TileUpdate> updates = new ArrayList<>();
+                for (TileEntityUpdateable tile : chunkEntry.getValue().keySet()) {
+                    //Skip tiles that got removed since they requested the update
+                    if (!tile.isRemoved()) {
+                        if (players.isEmpty()) {
+                            //Nobody to send it to, make sure whoever starts tracking the tile gets a full update next time
+                            tile.resetUpdateBaseline();
+                        } else {
+                            TileUpdate update = tile.createTileUpdate(players);
+                            if (update != null) {
+                                updates.add(update);
+                            }
+                        }
+                    }
+                }
+                if (!updates.isEmpty()) {
+                    Mekanism.packetHandler.sendTo(new PacketUpdateTile(updates), players);
+                }
+            }
+        }
+        pendingUpdates.clear();
+    }
+
+    /**
+     * Makes sure players that start watching a chunk get full updates for the tiles in it, as the client may have dropped the tiles it had for the chunk.
+     */
+    public static void onChunkWatch(ChunkWatchEvent.Watch event) {
+        Chunk chunk = event.getWorld().getChunkProvider().getChunkNow(event.getPos().x, event.getPos().z);
+        if (chunk != null) {
+            for (TileEntity tile : chunk.getTileEntityMap().values()) {
+                if (tile instanceof TileEntityUpdateable) {
+                    ((TileEntityUpdateable) tile).resetUpdateBaseline();
+                }
+            }
+        }
+    }
+
+    public static void reset() {
+        pendingUpdates.clear();
+        ticksSinceFlush = 0;
+    }
+}
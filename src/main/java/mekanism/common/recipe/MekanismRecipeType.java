@@ -5,10 +5,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.chemical.Chemical;
 import mekanism.api.inventory.IgnoredIInventory;
 import mekanism.api.recipes.ChemicalCrystallizerRecipe;
 import mekanism.api.recipes.ChemicalDissolutionRecipe;
@@ -29,6 +31,7 @@ import mekanism.api.recipes.NucleosynthesizingRecipe;
 import mekanism.api.recipes.PressurizedReactionRecipe;
 import mekanism.api.recipes.RotaryRecipe;
 import mekanism.api.recipes.SawmillRecipe;
+import mekanism.api.recipes.inputs.InputIngredient;
 import mekanism.api.recipes.inputs.ItemStackIngredient;
 import mekanism.client.MekanismClient;
 import mekanism.common.Mekanism;
@@ -44,6 +47,7 @@ import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.fml.server.ServerLifecycleHooks;
 import net.minecraftforge.registries.IForgeRegistry;
@@ -52,50 +56,57 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     private static final List<MekanismRecipeType<? extends MekanismRecipe>> types = new ArrayList<>();
 
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = create("crushing");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = create("enriching");
-    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = create("smelting");
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = create("crushing", ItemStackToItemStackRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = create("enriching", ItemStackToItemStackRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToItemStackRecipe> SMELTING = create("smelting", ItemStackToItemStackRecipe::getInput);
 
     public static final MekanismRecipeType<ChemicalInfuserRecipe> CHEMICAL_INFUSING = create("chemical_infusing");
 
-    public static final MekanismRecipeType<CombinerRecipe> COMBINING = create("combining");
+    public static final MekanismRecipeType<CombinerRecipe> COMBINING = create("combining", CombinerRecipe::getMainInput);
 
-    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = create("separating");
+    public static final MekanismRecipeType<ElectrolysisRecipe> SEPARATING = create("separating", ElectrolysisRecipe::getInput);
 
-    public static final MekanismRecipeType<FluidSlurryToSlurryRecipe> WASHING = create("washing");
+    public static final MekanismRecipeType<FluidSlurryToSlurryRecipe> WASHING = create("washing", FluidSlurryToSlurryRecipe::getChemicalInput);
 
-    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = create("evaporating");
+    public static final MekanismRecipeType<FluidToFluidRecipe> EVAPORATING = create("evaporating", FluidToFluidRecipe::getInput);
 
-    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = create("activating");
-    public static final MekanismRecipeType<GasToGasRecipe> CENTRIFUGING = create("centrifuging");
+    public static final MekanismRecipeType<GasToGasRecipe> ACTIVATING = create("activating", GasToGasRecipe::getInput);
+    public static final MekanismRecipeType<GasToGasRecipe> CENTRIFUGING = create("centrifuging", GasToGasRecipe::getInput);
 
     public static final MekanismRecipeType<ChemicalCrystallizerRecipe> CRYSTALLIZING = create("crystallizing");
 
-    public static final MekanismRecipeType<ChemicalDissolutionRecipe> DISSOLUTION = create("dissolution");
+    public static final MekanismRecipeType<ChemicalDissolutionRecipe> DISSOLUTION = create("dissolution", ChemicalDissolutionRecipe::getItemInput);
 
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = create("compressing");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = create("purifying");
-    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = create("injecting");
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> COMPRESSING = create("compressing", ItemStackGasToItemStackRecipe::getItemInput);
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> PURIFYING = create("purifying", ItemStackGasToItemStackRecipe::getItemInput);
+    public static final MekanismRecipeType<ItemStackGasToItemStackRecipe> INJECTING = create("injecting", ItemStackGasToItemStackRecipe::getItemInput);
 
-    public static final MekanismRecipeType<NucleosynthesizingRecipe> NUCLEOSYNTHESIZING = create("nucleosynthesizing");
+    public static final MekanismRecipeType<NucleosynthesizingRecipe> NUCLEOSYNTHESIZING = create("nucleosynthesizing", NucleosynthesizingRecipe::getItemInput);
 
-    public static final MekanismRecipeType<ItemStackToEnergyRecipe> ENERGY_CONVERSION = create("energy_conversion");
+    public static final MekanismRecipeType<ItemStackToEnergyRecipe> ENERGY_CONVERSION = create("energy_conversion", ItemStackToEnergyRecipe::getInput);
 
-    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = create("gas_conversion");
-    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = create("oxidizing");
+    public static final MekanismRecipeType<ItemStackToGasRecipe> GAS_CONVERSION = create("gas_conversion", ItemStackToGasRecipe::getInput);
+    public static final MekanismRecipeType<ItemStackToGasRecipe> OXIDIZING = create("oxidizing", ItemStackToGasRecipe::getInput);
 
-    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = create("infusion_conversion");
+    public static final MekanismRecipeType<ItemStackToInfuseTypeRecipe> INFUSION_CONVERSION = create("infusion_conversion", ItemStackToInfuseTypeRecipe::getInput);
 
-    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = create("metallurgic_infusing");
+    public static final MekanismRecipeType<MetallurgicInfuserRecipe> METALLURGIC_INFUSING = create("metallurgic_infusing", MetallurgicInfuserRecipe::getItemInput);
 
-    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = create("reaction");
+    public static final MekanismRecipeType<PressurizedReactionRecipe> REACTION = create("reaction", PressurizedReactionRecipe::getInputSolid);
 
     public static final MekanismRecipeType<RotaryRecipe> ROTARY = create("rotary");
 
-    public static final MekanismRecipeType<SawmillRecipe> SAWING = create("sawing");
+    public static final MekanismRecipeType<SawmillRecipe> SAWING = create("sawing", SawmillRecipe::getInput);
 
     private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name) {
-        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name);
+        return create(name, null);
+    }
+
+    /**
+     * @param indexedInput Input of the recipes to index them by, for use by the lookups that are given the item, fluid or chemical to look up.
+     */
+    private static <RECIPE_TYPE extends MekanismRecipe> MekanismRecipeType<RECIPE_TYPE> create(String name, @Nullable Function<RECIPE_TYPE, InputIngredient<?>> indexedInput) {
+        MekanismRecipeType<RECIPE_TYPE> type = new MekanismRecipeType<>(name, indexedInput);
         types.add(type);
         return type;
     }
@@ -107,14 +118,29 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     public static void clearCache() {
         //TODO: Does this need to also get cleared on disconnect
-        types.forEach(type -> type.cachedRecipes.clear());
+        types.forEach(type -> {
+            type.cachedRecipes.clear();
+            type.inputIndex = null;
+        });
+    }
+
+    /**
+     * Drops the input indices without clearing the recipes, for when tags changed and tag inputs may accept different types.
+     */
+    public static void clearInputIndices() {
+        types.forEach(type -> type.inputIndex = null);
     }
 
     private List<RECIPE_TYPE> cachedRecipes = Collections.emptyList();
     private final ResourceLocation registryName;
+    @Nullable
+    private final Function<RECIPE_TYPE, InputIngredient<?>> indexedInput;
+    @Nullable
+    private RecipeInputIndex<RECIPE_TYPE> inputIndex;
 
-    private MekanismRecipeType(String name) {
+    private MekanismRecipeType(String name, @Nullable Function<RECIPE_TYPE, InputIngredient<?>> indexedInput) {
         this.registryName = Mekanism.rl(name);
+        this.indexedInput = indexedInput;
     }
 
     @Override
@@ -182,4 +208,65 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
     public boolean contains(@Nullable World world, Predicate<RECIPE_TYPE> matchCriteria) {
         return stream(world).anyMatch(matchCriteria);
     }
+
+    /**
+     * Finds the first recipe matching the given criteria, only testing the recipes whose indexed input accepts the given stack.
+     *
+     * @param input Stack to look up, the criteria should only match recipes whose indexed input accepts this stack.
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, ItemStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirstIndexed(world, input.getItem(), matchCriteria);
+    }
+
+    /**
+     * @see #findFirst(World, ItemStack, Predicate)
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, FluidStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirstIndexed(world, input.getFluid(), matchCriteria);
+    }
+
+    /**
+     * @see #findFirst(World, ItemStack, Predicate)
+     */
+    @Nullable
+    public RECIPE_TYPE findFirst(@Nullable World world, Chemical<?> input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirstIndexed(world, input, matchCriteria);
+    }
+
+    /**
+     * @see #findFirst(World, ItemStack, Predicate)
+     */
+    public boolean contains(@Nullable World world, ItemStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input, matchCriteria) != null;
+    }
+
+    /**
+     * @see #findFirst(World, ItemStack, Predicate)
+     */
+    public boolean contains(@Nullable World world, FluidStack input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input, matchCriteria) != null;
+    }
+
+    /**
+     * @see #findFirst(World, ItemStack, Predicate)
+     */
+    public boolean contains(@Nullable World world, Chemical<?> input, Predicate<RECIPE_TYPE> matchCriteria) {
+        return findFirst(world, input, matchCriteria) != null;
+    }
+
+    @Nullable
+    private RECIPE_TYPE findFirstIndexed(@Nullable World world, Object inputType, Predicate<RECIPE_TYPE> matchCriteria) {
+        List<RECIPE_TYPE> recipes = getRecipes(world);
+        if (indexedInput == null || recipes.isEmpty()) {
+            return findFirst(world, matchCriteria);
+        }
+        RecipeInputIndex<RECIPE_TYPE> index = inputIndex;
+        if (index == null || index.getRecipes() != recipes) {
+            //Build the index the first time a lookup happens after the recipes were (re)cached
+            inputIndex = index = new RecipeInputIndex<>(recipes, indexedInput);
+        }
+        return index.findFirst(inputType, matchCriteria);
+    }
 }
\ No newline at end of file
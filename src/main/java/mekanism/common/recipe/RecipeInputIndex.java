@@ -0,0 +1,131 @@
+package mekanism.common.recipe;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.inputs.InputIngredient;
+import mekanism.api.recipes.inputs.ItemStackIngredient;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraftforge.common.crafting.NBTIngredient;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Index of the recipes of a {@link MekanismRecipeType} by the item, fluid or chemical types that one of their inputs accepts, so that looking up the recipe for an
+ * input only has to test the recipes that could accept it instead of every recipe of the type. Tag ingredients are expanded into the types they currently contain,
+ * so the index has to be rebuilt whenever recipes or tags are reloaded.
+ */
+public class RecipeInputIndex<RECIPE extends MekanismRecipe> {
+
+    private static final int[] NONE = new int[0];
+
+    private final List<RECIPE> recipes;
+    /**
+     * Input type -> positions of the recipes whose input accepts that type, in recipe order.
+     */
+    private final Map<Object, int[]> candidates;
+    /**
+     * Positions of the recipes whose input can't be expanded into types, these are tested for every input.
+     */
+    private final int[] unindexed;
+
+    public RecipeInputIndex(List<RECIPE> recipes, Function<RECIPE, InputIngredient<?>> indexedInput) {
+        this.recipes = recipes;
+        Map<Object, IntList> indices = new Object2ObjectOpenHashMap<>();
+        IntList complex = new IntArrayList();
+        for (int i = 0; i < recipes.size(); i++) {
+            InputIngredient<?> input = indexedInput.apply(recipes.get(i));
+            if (!canIndex(input)) {
+                complex.add(i);
+                continue;
+            }
+            for (Object representation : input.getRepresentations()) {
+                Object type = getType(representation);
+                if (type == null) {
+                    //Unknown kind of input, just test the recipe against everything
+                    complex.add(i);
+                    break;
+                }
+                IntList recipeIndices = indices.computeIfAbsent(type, t -> new IntArrayList());
+                //Representations may contain the same type multiple times, for example with different NBT
+                if (recipeIndices.isEmpty() || recipeIndices.getInt(recipeIndices.size() - 1) != i) {
+                    recipeIndices.add(i);
+                }
+            }
+        }
+        candidates = new Object2ObjectOpenHashMap<>(indices.size());
+        indices.forEach((type, recipeIndices) -> candidates.put(type, recipeIndices.toIntArray()));
+        unindexed = complex.toIntArray();
+    }
+
+    public List<RECIPE> getRecipes() {
+        return recipes;
+    }
+
+    /**
+     * Finds the first recipe, in recipe order, that may accept the given type and matches the given criteria.
+     *
+     * @param type Item, fluid or chemical being looked up. The criteria should only match recipes whose indexed input accepts this type.
+     */
+    @Nullable
+    public RECIPE findFirst(Object type, Predicate<RECIPE> matchCriteria) {
+        int[] indexed = candidates.getOrDefault(type, NONE);
+        int i = 0;
+        int j = 0;
+        //Merge the candidates of the type with the unindexed recipes so that we still return the first match in recipe order
+        while (i < indexed.length || j < unindexed.length) {
+            int next;
+            if (j == unindexed.length || (i < indexed.length && indexed[i] < unindexed[j])) {
+                next = indexed[i++];
+            } else {
+                next = unindexed[j++];
+            }
+            RECIPE recipe = recipes.get(next);
+            if (matchCriteria.test(recipe)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the type an item, fluid or chemical input is indexed by, or {@code null} if the given object isn't a supported input.
+     */
+    @Nullable
+    public static Object getType(Object input) {
+        if (input instanceof ItemStack) {
+            return ((ItemStack) input).getItem();
+        } else if (input instanceof FluidStack) {
+            return ((FluidStack) input).getFluid();
+        } else if (input instanceof ChemicalStack) {
+            return ((ChemicalStack<?>) input).getType();
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the representations of an input contain every type it can accept. Item ingredients may be backed by custom ingredients that test more than what
+     * they can represent, so we only trust the ones we know.
+     */
+    private static boolean canIndex(InputIngredient<?> input) {
+        if (input instanceof ItemStackIngredient.Single) {
+            Ingredient ingredient = ((ItemStackIngredient.Single) input).getInputRaw();
+            return ingredient.isVanilla() || ingredient instanceof NBTIngredient;
+        } else if (input instanceof ItemStackIngredient.Multi) {
+            for (ItemStackIngredient ingredient : ((ItemStackIngredient.Multi) input).getIngredients()) {
+                if (!canIndex(ingredient)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return !(input instanceof ItemStackIngredient);
+    }
+}
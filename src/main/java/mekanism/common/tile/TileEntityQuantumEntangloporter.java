@@ -167,6 +167,12 @@ public class TileEntityQuantumEntangloporter extends TileEntityMekanism implemen
         return new QuantumEntangloporterEnergyContainerHolder(this);
     }
 
+    @Override
+    public boolean tracksEnergyChanges() {
+        //The energy we expose belongs to our frequency
+        return false;
+    }
+
     @Nonnull
     @Override
     protected IHeatCapacitorHolder getInitialHeatCapacitors() {
@@ -2,6 +2,8 @@ package mekanism.common.tile;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,6 +28,7 @@ import mekanism.common.capabilities.holder.energy.IEnergyContainerHolder;
 import mekanism.common.capabilities.holder.slot.IInventorySlotHolder;
 import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.teleporter.TeleporterEntityIndex;
 import mekanism.common.content.teleporter.TeleporterFrequency;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableByte;
@@ -52,6 +55,7 @@ import net.minecraft.util.SoundEvents;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.IChunk;
@@ -65,6 +69,9 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
 
     public final Set<UUID> didTeleport = new ObjectOpenHashSet<>();
     private AxisAlignedBB teleportBounds;
+    //Chunks entities have to be in to possibly be inside the teleport bounds, and the entities we were told entered them
+    private final LongSet trackedChunks = new LongOpenHashSet();
+    private final Set<Entity> nearbyEntities = new ObjectOpenHashSet<>();
     public int teleDelay = 0;
     public boolean shouldRender;
     @Nullable
@@ -142,6 +149,7 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
         if (teleportBounds == null && frameDirection != null) {
             resetBounds();
         }
+        pruneNearbyEntities();
 
         status = canTeleport();
         if (MekanismUtils.canFunction(this) && status == 1 && teleDelay == 0) {
@@ -174,23 +182,73 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     }
 
     private void cleanTeleportCache() {
-        List<UUID> list = new ArrayList<>();
-        for (Entity e : world.getEntitiesWithinAABB(Entity.class, teleportBounds)) {
-            list.add(e.getUniqueID());
-        }
-        Set<UUID> teleportCopy = new ObjectOpenHashSet<>(didTeleport);
-        for (UUID id : teleportCopy) {
-            if (!list.contains(id)) {
-                didTeleport.remove(id);
+        Set<UUID> inBounds = new ObjectOpenHashSet<>();
+        for (Entity entity : nearbyEntities) {
+            if (entity.getBoundingBox().intersects(teleportBounds)) {
+                inBounds.add(entity.getUniqueID());
             }
         }
+        didTeleport.removeIf(id -> !inBounds.contains(id));
     }
 
     private void resetBounds() {
+        untrackChunks();
         if (frameDirection == null) {
             teleportBounds = null;
         } else {
             teleportBounds = getTeleporterBoundingBox(frameDirection);
+            trackChunks();
+        }
+    }
+
+    /**
+     * Starts listening for entities entering the chunks that entities inside the teleport bounds can be in, and finds the entities that are already in them.
+     */
+    private void trackChunks() {
+        if (isRemote()) {
+            return;
+        }
+        //Note: Like the world does when looking up entities, we also look in the chunks two blocks around the bounds to include large entities
+        int minChunkX = MathHelper.floor((teleportBounds.minX - 2) / 16);
+        int maxChunkX = MathHelper.floor((teleportBounds.maxX + 2) / 16);
+        int minChunkZ = MathHelper.floor((teleportBounds.minZ - 2) / 16);
+        int maxChunkZ = MathHelper.floor((teleportBounds.maxZ + 2) / 16);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                trackedChunks.add(ChunkPos.asLong(chunkX, chunkZ));
+            }
+        }
+        TeleporterEntityIndex.track(this, world.getDimensionKey(), trackedChunks);
+        nearbyEntities.addAll(world.getEntitiesWithinAABB(Entity.class, new AxisAlignedBB(minChunkX << 4, 0, minChunkZ << 4, (maxChunkX + 1) << 4,
+              world.getHeight(), (maxChunkZ + 1) << 4)));
+    }
+
+    private void untrackChunks() {
+        if (!trackedChunks.isEmpty()) {
+            TeleporterEntityIndex.untrack(this, world.getDimensionKey(), trackedChunks);
+            trackedChunks.clear();
+        }
+        nearbyEntities.clear();
+    }
+
+    /**
+     * Called by {@link TeleporterEntityIndex} when an entity enters one of the chunks this teleporter is tracking.
+     */
+    public void addNearbyEntity(Entity entity) {
+        if (entity.isAlive()) {
+            nearbyEntities.add(entity);
+        }
+    }
+
+    /**
+     * Forgets about the entities that left the tracked chunks or the world. Called every tick regardless of whether we can teleport, so that entities don't pile up
+     * while the teleporter is unpowered or disabled.
+     */
+    private void pruneNearbyEntities() {
+        if (!nearbyEntities.isEmpty()) {
+            ServerWorld serverWorld = (ServerWorld) world;
+            nearbyEntities.removeIf(entity -> !entity.isAlive() || entity.world != world || serverWorld.getEntityByUuid(entity.getUniqueID()) != entity ||
+                                              !trackedChunks.contains(ChunkPos.asLong(entity.chunkCoordX, entity.chunkCoordZ)));
         }
     }
 
@@ -202,7 +260,11 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     private byte canTeleport() {
         Direction direction = getFrameDirection();
         if (direction == null) {
-            frameDirection = null;
+            if (frameDirection != null) {
+                //The frame got broken, stop tracking entities until it is rebuilt
+                frameDirection = null;
+                resetBounds();
+            }
             return 2;
         } else if (frameDirection != direction) {
             frameDirection = direction;
@@ -329,10 +391,18 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     }
 
     private List<Entity> getToTeleport() {
-        //Don't get entities that are currently spectator, are a passenger, or recently teleported
-        //Note: Passengers get handled separately
-        return world == null || teleportBounds == null ? Collections.emptyList() : world.getEntitiesWithinAABB(Entity.class, teleportBounds,
-              entity -> !entity.isSpectator() && !entity.isPassenger() && !didTeleport.contains(entity.getUniqueID()));
+        if (world == null || teleportBounds == null) {
+            return Collections.emptyList();
+        }
+        List<Entity> toTeleport = new ArrayList<>();
+        for (Entity entity : nearbyEntities) {
+            //Don't get entities that are currently spectator, are a passenger, or recently teleported
+            //Note: Passengers get handled separately
+            if (!entity.isSpectator() && !entity.isPassenger() && !didTeleport.contains(entity.getUniqueID()) && entity.getBoundingBox().intersects(teleportBounds)) {
+                toTeleport.add(entity);
+            }
+        }
+        return toTeleport;
     }
 
     @Nonnull
@@ -461,6 +531,18 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
         throw new IllegalArgumentException("Invalid frame direction");
     }
 
+    @Override
+    public void remove() {
+        super.remove();
+        untrackChunks();
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        untrackChunks();
+    }
+
     @Override
     public TileComponentChunkLoader<TileEntityTeleporter> getChunkLoader() {
         return chunkLoaderComponent;
@@ -114,6 +114,7 @@ import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
+import net.minecraft.profiler.IProfiler;
 import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ActionResultType;
@@ -170,6 +171,13 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     protected int currentRedstoneLevel;
     //End variables IComparatorSupport
 
+    //Variables for handling sleeping
+    private boolean sleeping;
+    private int sleepTicks;
+    //End variables sleeping
+
+    private int contentsVersion;
+
     //Variables for handling ITileUpgradable
     //TODO: Convert this to being private
     protected TileComponentUpgrade upgradeComponent;
@@ -495,7 +503,19 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
                     }
                 }
             }
-            onUpdateServer();
+            IProfiler profiler = world.getProfiler();
+            if (sleeping && (++sleepTicks < MekanismConfig.general.maxTileSleepTicks.get() || !TileTickBudget.hasBudget())) {
+                //Note: The section is only used so that the profiler shows how many tiles of each type are sleeping
+                profiler.startSection("sleeping");
+                profiler.endSection();
+            } else {
+                sleeping = false;
+                profiler.startSection("update");
+                long start = System.nanoTime();
+                onUpdateServer();
+                TileTickBudget.use(System.nanoTime() - start);
+                profiler.endSection();
+            }
             if (persists(SubstanceType.HEAT)) {
                 // update heat after server tick as we now have simulate changes
                 // we use persists, as only one reference should update
@@ -562,11 +582,40 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     /**
-     * Update call for machines. Use instead of updateEntity -- it's called every tick on the server side.
+     * Update call for machines. Use instead of updateEntity -- it's called every tick on the server side, unless the machine is sleeping.
      */
     protected void onUpdateServer() {
     }
 
+    /**
+     * Puts this tile to sleep, skipping {@link #onUpdateServer()} until the contents of the tile change, the redstone state or control type changes, or the configured
+     * maximum sleep time passes. Components still tick while the tile is sleeping. Should only be called from {@link #onUpdateServer()} by tiles that have nothing to
+     * do until one of those things happen.
+     */
+    protected void sleep() {
+        sleeping = true;
+        sleepTicks = 0;
+    }
+
+    public void wakeUp() {
+        sleeping = false;
+    }
+
+    /**
+     * @return A counter that changes whenever the contents of this tile change.
+     */
+    public int getContentsVersion() {
+        return contentsVersion;
+    }
+
+    /**
+     * @return {@code true} if changes to the energy stored in this tile always change the {@link #getContentsVersion() contents version}. This is not the case for tiles
+     * that expose energy containers owned by something else, such as a multiblock or a frequency.
+     */
+    public boolean tracksEnergyChanges() {
+        return canHandleEnergy();
+    }
+
     public void onPlace() {
     }
 
@@ -682,7 +731,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
             container.track(SyncableFloatingLong.create(this::getInputRate, this::setInputRate));
             List<IEnergyContainer> energyContainers = getEnergyContainers(null);
             for (IEnergyContainer energyContainer : energyContainers) {
-                container.track(SyncableFloatingLong.create(energyContainer::getEnergy, energyContainer::setEnergy));
+                container.track(SyncableFloatingLong.createThrottled(energyContainer::getEnergy, energyContainer::setEnergy));
                 if (energyContainer instanceof MachineEnergyContainer) {
                     MachineEnergyContainer<?> machineEnergy = (MachineEnergyContainer<?>) energyContainer;
                     if (supportsUpgrades() || machineEnergy.adjustableRates()) {
@@ -780,6 +829,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     public void setControlType(@Nonnull RedstoneControl type) {
         if (supportsRedstone()) {
             controlType = Objects.requireNonNull(type);
+            wakeUp();
             markDirty(false);
         }
     }
@@ -798,6 +848,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         boolean power = world.isBlockPowered(getPos());
         if (redstone != power) {
             redstone = power;
+            wakeUp();
             onPowerChange();
         }
     }
@@ -870,6 +921,8 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     @Override
     public void onContentsChanged() {
+        contentsVersion++;
+        wakeUp();
         markDirty(false);
     }
 
@@ -1,14 +1,21 @@
 package mekanism.common.tile.base;
 
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.common.Mekanism;
 import mekanism.common.config.MekanismConfig;
-import mekanism.common.network.PacketUpdateTile;
+import mekanism.common.network.PacketTileUpdateRequest;
+import mekanism.common.network.PacketUpdateTile.TileUpdate;
+import mekanism.common.network.TileUpdateScheduler;
 import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketDirection;
@@ -24,6 +31,16 @@ import net.minecraft.world.World;
  */
 public abstract class TileEntityUpdateable extends TileEntity implements ITileWrapper {
 
+    /**
+     * On the server the last update tag sent to {@link #lastUpdateReceivers}, on the client the last update tag received through our update packet. Used to only send
+     * the parts of the update tag that changed.
+     */
+    @Nullable
+    private CompoundNBT lastUpdateTag;
+    private Set<UUID> lastUpdateReceivers = Collections.emptySet();
+    //Client side, whether we asked the server for a full update because we received a partial update without knowing the last update tag
+    private boolean requestedFullUpdate;
+
     public TileEntityUpdateable(TileEntityType<?> type) {
         super(type);
     }
@@ -78,11 +95,21 @@ public abstract class TileEntityUpdateable extends TileEntity implements ITileWr
         //We don't want to do a full read from NBT so simply call the super's read method to let Forge do whatever
         // it wants, but don't treat this as if it was the full saved NBT data as not everything has to be synced to the client
         super.read(state, tag);
+        if (world != null && world.isRemote()) {
+            //This is either the chunk data, vanilla's update packet or one of our updates. The first two contain the full update tag instead of the reduced one
+            // partial updates are relative to, so forget our baseline. When handling one of our updates the baseline gets set again afterwards
+            lastUpdateTag = null;
+            requestedFullUpdate = false;
+        }
     }
 
     @Nonnull
     @Override
     public CompoundNBT getUpdateTag() {
+        if (world != null && !world.isRemote()) {
+            //The full update tag gets sent through the chunk data or vanilla's update packet, which make the client forget its baseline for partial updates
+            resetUpdateBaseline();
+        }
         return getReducedUpdateTag();
     }
 
@@ -107,6 +134,54 @@ public abstract class TileEntityUpdateable extends TileEntity implements ITileWr
         handleUpdateTag(getBlockState(), tag);
     }
 
+    public void handleUpdatePacket(@Nonnull TileUpdate update) {
+        CompoundNBT tag = update.apply(lastUpdateTag);
+        if (tag == null) {
+            //We don't know what the update is relative to, ask the server for a full update instead
+            if (!requestedFullUpdate) {
+                requestedFullUpdate = true;
+                Mekanism.packetHandler.sendToServer(new PacketTileUpdateRequest(getPos()));
+            }
+        } else {
+            //Copy the tag so that handling the update can't change what later partial updates get applied to
+            handleUpdatePacket(tag.copy());
+            lastUpdateTag = tag;
+            requestedFullUpdate = false;
+        }
+    }
+
+    /**
+     * Creates the update to send to the given players, only containing the parts of the update tag that changed if the players are the same ones that received the
+     * last update.
+     *
+     * @return the update, or {@code null} if nothing changed since the last update.
+     */
+    @Nullable
+    public TileUpdate createTileUpdate(Set<ServerPlayerEntity> players) {
+        CompoundNBT updateTag = getReducedUpdateTag();
+        Set<UUID> receivers = new ObjectOpenHashSet<>();
+        for (ServerPlayerEntity player : players) {
+            receivers.add(player.getUniqueID());
+        }
+        TileUpdate update;
+        if (lastUpdateTag == null || !receivers.equals(lastUpdateReceivers)) {
+            update = TileUpdate.full(getPos(), updateTag);
+        } else {
+            update = TileUpdate.delta(getPos(), lastUpdateTag, updateTag);
+        }
+        lastUpdateTag = updateTag;
+        lastUpdateReceivers = receivers;
+        return update;
+    }
+
+    /**
+     * Makes sure the next update that gets sent is a full update.
+     */
+    public void resetUpdateBaseline() {
+        lastUpdateTag = null;
+        lastUpdateReceivers = Collections.emptySet();
+    }
+
     public void sendUpdatePacket() {
         sendUpdatePacket(this);
     }
@@ -120,7 +195,8 @@ public abstract class TileEntityUpdateable extends TileEntity implements ITileWr
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
             // does not need to and should not be redrawn
-            Mekanism.packetHandler.sendToAllTracking(new PacketUpdateTile(this), tracking);
+            // The update gets sent at the end of the tick, merged with any other requests of this tile
+            TileUpdateScheduler.queue(this, tracking);
         }
     }
 
@@ -0,0 +1,30 @@
+package mekanism.common.tile.base;
+
+import mekanism.common.config.MekanismConfig;
+
+/**
+ * Keeps track of how long the server updates of {@link TileEntityMekanism}s took in the current tick. Once the configured budget is used up, sleeping tiles postpone
+ * their periodic check of whether they can start working again to the next tick. Tiles that are awake always update.
+ */
+public class TileTickBudget {
+
+    private static long usedNanos;
+
+    private TileTickBudget() {
+    }
+
+    static boolean hasBudget() {
+        return usedNanos < MekanismConfig.general.tileWakeCheckBudget.get() * 1_000L;
+    }
+
+    static void use(long nanos) {
+        usedNanos += nanos;
+    }
+
+    /**
+     * Called at the end of each server tick.
+     */
+    public static void reset() {
+        usedNanos = 0;
+    }
+}
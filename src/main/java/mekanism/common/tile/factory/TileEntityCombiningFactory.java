@@ -49,7 +49,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getMainInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getMainInput().testType(stack));
     }
 
     @Override
@@ -70,7 +70,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
     protected CombinerRecipe findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot, @Nullable IInventorySlot secondaryOutputSlot) {
         ItemStack extra = extraSlot.getStack();
         ItemStack output = outputSlot.getStack();
-        return findFirstRecipe(recipe -> {
+        return findFirstRecipe(fallbackInput, recipe -> {
             if (recipe.getMainInput().testType(fallbackInput)) {
                 if (extra.isEmpty() || recipe.getExtraInput().testType(extra)) {
                     return InventoryUtils.areItemsStackable(recipe.getOutput(fallbackInput, extra), output);
@@ -97,7 +97,7 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
         if (extra.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, extra));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, extra));
     }
 
     @Override
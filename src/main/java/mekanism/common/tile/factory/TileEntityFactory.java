@@ -51,6 +51,7 @@ import mekanism.common.tile.interfaces.ISideConfiguration;
 import mekanism.common.tile.interfaces.ITileCachedRecipeHolder;
 import mekanism.common.upgrade.IUpgradeData;
 import mekanism.common.upgrade.MachineUpgradeData;
+import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.BlockState;
 import net.minecraft.item.ItemStack;
@@ -83,6 +84,14 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     public int ticksRequired = 200;
     private boolean sorting;
     private boolean sortingNeeded = true;
+    /**
+     * Input type of each process as of the last sorting pass, or {@code null} if the process' input slot was empty. Together with {@link #sortedCounts} and {@link
+     * #sortGroups} this allows sorting passes to only update the grouping of processes whose inputs changed, and to skip sorting entirely when nothing changed.
+     */
+    private final HashedItem[] sortedTypes;
+    private final int[] sortedCounts;
+    private final Map<HashedItem, RecipeProcessInfo> sortGroups = new HashMap<>();
+    private boolean sortGroupsChanged;
     public FloatingLong lastUsage = FloatingLong.ZERO;
 
     public final TileComponentEjector ejectorComponent;
@@ -126,6 +135,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         ejectorComponent.setOutputData(configComponent, TransmissionType.ITEM);
 
         progress = new int[tier.processes];
+        sortedTypes = new HashedItem[tier.processes];
+        sortedCounts = new int[tier.processes];
         cachedRecipes = new CachedRecipe[tier.processes];
         activeStates = new boolean[cachedRecipes.length];
         addCapabilityResolver(BasicCapabilityResolver.constant(Capabilities.CONFIG_CARD_CAPABILITY, this));
@@ -439,37 +450,34 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     }
 
     private void sortInventory() {
-        Map<HashedItem, RecipeProcessInfo> processes = new HashMap<>();
-        List<ProcessInfo> emptyProcesses = new ArrayList<>();
-        for (ProcessInfo processInfo : processInfoSlots) {
-            IInventorySlot inputSlot = processInfo.getInputSlot();
-            if (inputSlot.isEmpty()) {
-                emptyProcesses.add(processInfo);
-            } else {
-                ItemStack inputStack = inputSlot.getStack();
-                HashedItem item = HashedItem.raw(inputStack);
-                RecipeProcessInfo recipeProcessInfo = processes.computeIfAbsent(item, i -> new RecipeProcessInfo());
-                recipeProcessInfo.processes.add(processInfo);
-                recipeProcessInfo.totalCount += inputStack.getCount();
-                if (recipeProcessInfo.lazyMinPerSlot == null && !invalidateCache()) {
-                    //If we don't have a lazily initialized min per slot calculation set for it yet
-                    // and our cache is not invalid/out of date due to a reload
+        boolean cacheInvalid = invalidateCache();
+        boolean hasEmpty = updateSortGroups();
+        if (!cacheInvalid && !hasEmpty && !sortGroupsChanged) {
+            //If no inputs changed since the last pass, and there are no empty slots to distribute items to,
+            // then the inventory is still sorted
+            return;
+        }
+        if (sortGroups.isEmpty()) {
+            //If all input slots are empty, just exit
+            return;
+        }
+        for (Entry<HashedItem, RecipeProcessInfo> entry : sortGroups.entrySet()) {
+            RecipeProcessInfo recipeProcessInfo = entry.getValue();
+            recipeProcessInfo.startPass();
+            if (!cacheInvalid) {
+                //If our cache is not invalid/out of date due to a reload, try to find a process of this type that has a valid cached recipe
+                for (ProcessInfo processInfo : recipeProcessInfo.members) {
+                    ItemStack inputStack = processInfo.getInputSlot().getStack();
                     CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(processInfo.getProcess());
                     if (isCachedRecipeValid(cachedRecipe, inputStack)) {
                         // And our current process has a cached recipe then set the lazily initialized per slot value
                         // Note: If something goes wrong and we end up with zero as how much we need as an input
                         // we just bump the value up to one so as to make sure we properly handle it
                         recipeProcessInfo.lazyMinPerSlot = () -> Math.max(1, getNeededInput(cachedRecipe.getRecipe(), inputStack));
+                        break;
                     }
                 }
             }
-        }
-        if (processes.isEmpty()) {
-            //If all input slots are empty, just exit
-            return;
-        }
-        for (Entry<HashedItem, RecipeProcessInfo> entry : processes.entrySet()) {
-            RecipeProcessInfo recipeProcessInfo = entry.getValue();
             if (recipeProcessInfo.lazyMinPerSlot == null) {
                 //If we don't have a lazily initializer for our minPerSlot setup, that means that there is
                 // no valid cached recipe for any of the slots of this type currently, so we want to try and
@@ -490,14 +498,79 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
                 };
             }
         }
-        if (!emptyProcesses.isEmpty()) {
+        if (hasEmpty) {
             //If we have any empty slots, we need to factor them in as valid slots for items to transferred to
-            addEmptySlotsAsTargets(processes, emptyProcesses);
+            List<ProcessInfo> emptyProcesses = new ArrayList<>();
+            for (ProcessInfo processInfo : processInfoSlots) {
+                if (sortedTypes[processInfo.getProcess()] == null) {
+                    emptyProcesses.add(processInfo);
+                }
+            }
+            addEmptySlotsAsTargets(sortGroups, emptyProcesses);
             //Note: Any remaining empty slots are "ignored" as we don't have any
             // spare items to distribute to them
         }
         //Distribute items among the slots
-        distributeItems(processes);
+        distributeItems(sortGroups);
+        //Record the result of distributing the items, so that the changes we just made don't cause another full pass
+        // Note: If the distribution emptied some slots, the next pass will still run so that we are able to fill them with other items
+        updateSortGroups();
+    }
+
+    /**
+     * Updates the grouping of processes by input type for the processes whose input changed since the last update.
+     *
+     * @return {@code true} if there are any processes with an empty input slot.
+     */
+    private boolean updateSortGroups() {
+        sortGroupsChanged = false;
+        boolean hasEmpty = false;
+        for (ProcessInfo processInfo : processInfoSlots) {
+            int process = processInfo.getProcess();
+            ItemStack inputStack = processInfo.getInputSlot().getStack();
+            HashedItem sortedType = sortedTypes[process];
+            if (inputStack.isEmpty()) {
+                hasEmpty = true;
+                if (sortedType != null) {
+                    removeFromSortGroup(sortedType, processInfo);
+                    sortedTypes[process] = null;
+                    sortedCounts[process] = 0;
+                    sortGroupsChanged = true;
+                }
+            } else if (sortedType != null && InventoryUtils.areItemsStackable(sortedType.getStack(), inputStack)) {
+                //Same type as before, only the amount may have changed
+                int count = inputStack.getCount();
+                if (count != sortedCounts[process]) {
+                    sortGroups.get(sortedType).totalCount += count - sortedCounts[process];
+                    sortedCounts[process] = count;
+                    sortGroupsChanged = true;
+                }
+            } else {
+                if (sortedType != null) {
+                    removeFromSortGroup(sortedType, processInfo);
+                }
+                //Note: We copy the stack as the key is kept between passes and the slot's stack may get modified
+                HashedItem type = HashedItem.create(inputStack);
+                int count = inputStack.getCount();
+                RecipeProcessInfo recipeProcessInfo = sortGroups.computeIfAbsent(type, t -> new RecipeProcessInfo());
+                recipeProcessInfo.addMember(processInfo);
+                recipeProcessInfo.totalCount += count;
+                sortedTypes[process] = type;
+                sortedCounts[process] = count;
+                sortGroupsChanged = true;
+            }
+        }
+        return hasEmpty;
+    }
+
+    private void removeFromSortGroup(HashedItem type, ProcessInfo processInfo) {
+        RecipeProcessInfo recipeProcessInfo = sortGroups.get(type);
+        recipeProcessInfo.members.remove(processInfo);
+        if (recipeProcessInfo.members.isEmpty()) {
+            sortGroups.remove(type);
+        } else {
+            recipeProcessInfo.totalCount -= sortedCounts[processInfo.getProcess()];
+        }
     }
 
     private void addEmptySlotsAsTargets(Map<HashedItem, RecipeProcessInfo> processes, List<ProcessInfo> emptyProcesses) {
@@ -644,12 +717,34 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
 
     private static class RecipeProcessInfo {
 
+        /**
+         * Processes that have this type in their input slot, in process order. Kept between sorting passes.
+         */
+        private final List<ProcessInfo> members = new ArrayList<>();
+        /**
+         * Members and any empty processes that got added as targets during the current sorting pass.
+         */
         private final List<ProcessInfo> processes = new ArrayList<>();
         @Nullable
         private IntSupplier lazyMinPerSlot;
         private int minPerSlot = 1;
         private int totalCount;
 
+        private void addMember(ProcessInfo processInfo) {
+            int index = 0;
+            while (index < members.size() && members.get(index).getProcess() < processInfo.getProcess()) {
+                index++;
+            }
+            members.add(index, processInfo);
+        }
+
+        private void startPass() {
+            processes.clear();
+            processes.addAll(members);
+            lazyMinPerSlot = null;
+            minPerSlot = 1;
+        }
+
         public int getMinPerSlot() {
             if (lazyMinPerSlot != null) {
                 //Get the value lazily
@@ -80,7 +80,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getItemInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getItemInput().testType(stack));
     }
 
     @Override
@@ -103,7 +103,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
         GasStack gasStack = gasTank.getStack();
         Gas gas = gasStack.getType();
         ItemStack output = outputSlot.getStack();
-        return findFirstRecipe(recipe -> {
+        return findFirstRecipe(fallbackInput, recipe -> {
             if (recipe.getItemInput().testType(fallbackInput)) {
                 //If we don't have a gas stored ignore checking for a match
                 if (gasStack.isEmpty() || recipe.getChemicalInput().testType(gas)) {
@@ -146,7 +146,7 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Override
@@ -23,7 +23,7 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getInput().testType(stack));
     }
 
     @Override
@@ -40,7 +40,7 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
     protected ItemStackToItemStackRecipe findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot,
           @Nullable IInventorySlot secondaryOutputSlot) {
         ItemStack output = outputSlot.getStack();
-        return findFirstRecipe(recipe -> recipe.getInput().testType(fallbackInput) && InventoryUtils.areItemsStackable(recipe.getOutput(fallbackInput), output));
+        return findFirstRecipe(fallbackInput, recipe -> recipe.getInput().testType(fallbackInput) && InventoryUtils.areItemsStackable(recipe.getOutput(fallbackInput), output));
     }
 
     @Nonnull
@@ -65,7 +65,7 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     @Override
@@ -76,7 +76,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getItemInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getItemInput().testType(stack));
     }
 
     @Override
@@ -99,7 +99,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
         long stored = infusionTank.getStored();
         InfuseType type = infusionTank.getType();
         ItemStack output = outputSlot.getStack();
-        return findFirstRecipe(recipe -> {
+        return findFirstRecipe(fallbackInput, recipe -> {
             //Check the infusion type before the ItemStack type as it a quicker easier compare check
             if (stored == 0 || recipe.getInfusionInput().testType(type)) {
                 return recipe.getItemInput().testType(fallbackInput) && InventoryUtils.areItemsStackable(recipe.getOutput(infusionTank.getStack(), fallbackInput), output);
@@ -135,7 +135,7 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
         if (infusionStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(infusionStack, stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(infusionStack, stack));
     }
 
     @Override
@@ -61,7 +61,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
 
     @Override
     public boolean isValidInputItem(@Nonnull ItemStack stack) {
-        return containsRecipe(recipe -> recipe.getInput().testType(stack));
+        return containsRecipe(stack, recipe -> recipe.getInput().testType(stack));
     }
 
     @Override
@@ -78,7 +78,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
     protected SawmillRecipe findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot, @Nullable IInventorySlot secondaryOutputSlot) {
         ItemStack output = outputSlot.getStack();
         ItemStack extra = secondaryOutputSlot == null ? ItemStack.EMPTY : secondaryOutputSlot.getStack();
-        return findFirstRecipe(recipe -> {
+        return findFirstRecipe(fallbackInput, recipe -> {
             if (recipe.getInput().testType(fallbackInput)) {
                 ChanceOutput chanceOutput = recipe.getOutput(fallbackInput);
                 if (InventoryUtils.areItemsStackable(chanceOutput.getMainOutput(), output)) {
@@ -108,7 +108,7 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> {
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     @Override
@@ -3,12 +3,15 @@ package mekanism.common.tile.interfaces;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.chemical.Chemical;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.ICachedRecipeHolder;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.recipe.MekanismRecipeType;
+import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 
 public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends ICachedRecipeHolder<RECIPE> {
 
@@ -35,6 +38,38 @@ public interface ITileCachedRecipeHolder<RECIPE extends MekanismRecipe> extends
         return getRecipeType().findFirst(getTileWorld(), matchCriteria);
     }
 
+    /**
+     * Indexed lookups, the criteria should only match recipes whose indexed input accepts the given input.
+     *
+     * @see MekanismRecipeType#findFirst(World, ItemStack, Predicate)
+     */
+    default boolean containsRecipe(@Nonnull ItemStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, matchCriteria);
+    }
+
+    default boolean containsRecipe(@Nonnull FluidStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, matchCriteria);
+    }
+
+    default boolean containsRecipe(@Nonnull Chemical<?> input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().contains(getTileWorld(), input, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull ItemStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull FluidStack input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
+
+    @Nullable
+    default RECIPE findFirstRecipe(@Nonnull Chemical<?> input, @Nonnull Predicate<RECIPE> matchCriteria) {
+        return getRecipeType().findFirst(getTileWorld(), input, matchCriteria);
+    }
+
     @Override
     default boolean invalidateCache() {
         return CommonWorldTickHandler.flushTagAndRecipeCaches;
@@ -94,7 +94,7 @@ public class TileEntityAntiprotonicNucleosynthesizer extends TileEntityProgressM
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
         builder.addSlot(gasInputSlot = GasInventorySlot.fillOrConvert(gasTank, this::getWorld, this, 6, 69));
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getItemInput().testType(item)), this, 26, 40));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getItemInput().testType(item)), this, 26, 40));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 152, 40));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 173, 69));
         gasInputSlot.setSlotOverlay(SlotOverlay.MINUS);
@@ -140,7 +140,7 @@ public class TileEntityAntiprotonicNucleosynthesizer extends TileEntityProgressM
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Nullable
@@ -140,7 +140,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityProgressMach
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
         builder.addSlot(gasInputSlot = GasInventorySlot.fillOrConvert(injectTank, this::getWorld, this, 8, 65));
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getItemInput().testType(item)), this, 28, 36));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getItemInput().testType(item)), this, 28, 36));
         builder.addSlot(outputSlot = MergedChemicalInventorySlot.drain(outputTank, this, 152, 25));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 152, 5));
         gasInputSlot.setSlotOverlay(SlotOverlay.MINUS);
@@ -177,7 +177,7 @@ public class TileEntityChemicalDissolutionChamber extends TileEntityProgressMach
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Nullable
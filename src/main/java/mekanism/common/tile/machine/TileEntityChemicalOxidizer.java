@@ -82,7 +82,7 @@ public class TileEntityChemicalOxidizer extends TileEntityProgressMachine<ItemSt
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 26, 36));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getInput().testType(item)), this, 26, 36));
         builder.addSlot(outputSlot = GasInventorySlot.drain(gasTank, this, 155, 25));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 155, 5));
         outputSlot.setSlotOverlay(SlotOverlay.PLUS);
@@ -113,7 +113,7 @@ public class TileEntityChemicalOxidizer extends TileEntityProgressMachine<ItemSt
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     @Nullable
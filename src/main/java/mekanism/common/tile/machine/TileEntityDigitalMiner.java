@@ -196,6 +196,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     protected void onUpdateServer() {
         super.onUpdateServer();
         closeInvalidScreens();
+        searcher.tick();
         if (!initCalc) {
             if (searcher.state == State.FINISHED) {
                 boolean prevRunning = running;
@@ -594,7 +595,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
             reset();
             return;
         } else if (searcher.state == State.FINISHED) {
@@ -604,7 +604,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     public void reset() {
-        searcher = new ThreadMinerSearch(this);
+        searcher.reset();
         running = false;
         cachedToMine = 0;
         oresToMine.clear();
@@ -715,6 +715,19 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         }
     }
 
+    @Override
+    public void remove() {
+        super.remove();
+        //Release the cached search results and stop tracking block changes in our area
+        searcher.invalidate();
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        searcher.invalidate();
+    }
+
     private TileEntity getEjectTile() {
         return WorldUtils.getTileEntity(getWorld(), getPos().up().offset(getOppositeDirection()));
     }
@@ -945,7 +958,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         container.track(SyncableBoolean.create(() -> running, value -> running = value));
         container.track(SyncableBoolean.create(this::getSilkTouch, this::setSilkTouch));
         container.track(SyncableEnum.create(State::byIndexStatic, State.IDLE, () -> searcher.state, value -> searcher.state = value));
-        container.track(SyncableInt.create(() -> !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine, value -> cachedToMine = value));
+        container.track(SyncableInt.create(() -> !isRemote() && searcher.state == State.SEARCHING ? searcher.getFound() : cachedToMine, value -> cachedToMine = value));
         container.track(SyncableItemStack.create(() -> missingStack, value -> missingStack = value));
     }
 
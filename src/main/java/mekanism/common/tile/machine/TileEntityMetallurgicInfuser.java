@@ -74,7 +74,7 @@ public class TileEntityMetallurgicInfuser extends TileEntityProgressMachine<Meta
         builder.addTank(infusionTank = ChemicalTankBuilder.INFUSION.create(MAX_INFUSE, ChemicalTankBuilder.INFUSION.alwaysTrueBi, (type, automationType) -> {
             if (!inputSlot.isEmpty()) {
                 ItemStack stack = inputSlot.getStack();
-                return containsRecipe(recipe -> recipe.getItemInput().testType(stack) && recipe.getInfusionInput().testType(type));
+                return containsRecipe(stack, recipe -> recipe.getItemInput().testType(stack) && recipe.getInfusionInput().testType(type));
             }
             //Otherwise return true, as we already validated the type was valid
             return true;
@@ -97,11 +97,11 @@ public class TileEntityMetallurgicInfuser extends TileEntityProgressMachine<Meta
         builder.addSlot(infusionSlot = InfusionInventorySlot.fillOrConvert(infusionTank, this::getWorld, this, 17, 35));
         builder.addSlot(inputSlot = InputInventorySlot.at(stack -> {
             if (!infusionTank.isEmpty()) {
-                return containsRecipe(recipe -> recipe.getInfusionInput().testType(infusionTank.getType()) && recipe.getItemInput().testType(stack));
+                return containsRecipe(stack, recipe -> recipe.getInfusionInput().testType(infusionTank.getType()) && recipe.getItemInput().testType(stack));
             }
             //Otherwise return true, as we already validated the type was valid
             return true;
-        }, stack -> containsRecipe(recipe -> recipe.getItemInput().testType(stack)), this, 51, 43));
+        }, stack -> containsRecipe(stack, recipe -> recipe.getItemInput().testType(stack)), this, 51, 43));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 109, 43));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 143, 35));
         return builder.build();
@@ -135,7 +135,7 @@ public class TileEntityMetallurgicInfuser extends TileEntityProgressMachine<Meta
         if (infusionStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(infusionStack, stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(infusionStack, stack));
     }
 
     @Nullable
@@ -67,7 +67,7 @@ public class TileEntityPrecisionSawmill extends TileEntityProgressMachine<Sawmil
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 56, 17));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getInput().testType(item)), this, 56, 17));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(secondaryOutputSlot = OutputInventorySlot.at(this, 132, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 56, 53));
@@ -97,7 +97,7 @@ public class TileEntityPrecisionSawmill extends TileEntityProgressMachine<Sawmil
         if (stack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     @Nullable
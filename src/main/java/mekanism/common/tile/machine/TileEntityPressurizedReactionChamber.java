@@ -107,7 +107,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityProgressMach
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInputSolid().testType(item)), this, 54, 35));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getInputSolid().testType(item)), this, 54, 35));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 141, 17));
         return builder.build();
@@ -156,7 +156,7 @@ public class TileEntityPressurizedReactionChamber extends TileEntityProgressMach
         if (gas.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, fluid, gas));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, fluid, gas));
     }
 
     @Nullable
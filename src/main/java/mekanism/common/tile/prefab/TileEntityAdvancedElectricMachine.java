@@ -91,7 +91,7 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityProgre
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getItemInput().testType(item)), this, 64, 17));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getItemInput().testType(item)), this, 64, 17));
         builder.addSlot(secondarySlot = GasInventorySlot.fillOrConvert(gasTank, this::getWorld, this, 64, 53));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 39, 35));
@@ -105,6 +105,9 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityProgre
         cachedRecipe = getUpdatedCache(0);
         if (cachedRecipe != null) {
             cachedRecipe.process();
+        } else if (!getActive() && energySlot.isEmpty() && secondarySlot.isEmpty()) {
+            //Nothing to process and nothing to fill from, wait until the contents change
+            sleep();
         }
     }
 
@@ -129,7 +132,7 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityProgre
         if (gasStack.isEmpty()) {
             return null;
         }
-        return findFirstRecipe(recipe -> recipe.test(stack, gasStack));
+        return findFirstRecipe(stack, recipe -> recipe.test(stack, gasStack));
     }
 
     @Nullable
@@ -61,7 +61,7 @@ public abstract class TileEntityElectricMachine extends TileEntityProgressMachin
     @Override
     protected IInventorySlotHolder getInitialInventory() {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(recipe -> recipe.getInput().testType(item)), this, 64, 17));
+        builder.addSlot(inputSlot = InputInventorySlot.at(item -> containsRecipe(item, recipe -> recipe.getInput().testType(item)), this, 64, 17));
         builder.addSlot(outputSlot = OutputInventorySlot.at(this, 116, 35));
         builder.addSlot(energySlot = EnergyInventorySlot.fillOrConvert(energyContainer, this::getWorld, this, 64, 53));
         return builder.build();
@@ -73,6 +73,9 @@ public abstract class TileEntityElectricMachine extends TileEntityProgressMachin
         cachedRecipe = getUpdatedCache(0);
         if (cachedRecipe != null) {
             cachedRecipe.process();
+        } else if (!getActive() && energySlot.isEmpty()) {
+            //Nothing to process and nothing to charge from, wait until the contents change
+            sleep();
         }
     }
 
@@ -86,7 +89,7 @@ public abstract class TileEntityElectricMachine extends TileEntityProgressMachin
     @Override
     public ItemStackToItemStackRecipe getRecipe(int cacheIndex) {
         ItemStack stack = inputHandler.getInput();
-        return stack.isEmpty() ? null : findFirstRecipe(recipe -> recipe.test(stack));
+        return stack.isEmpty() ? null : findFirstRecipe(stack, recipe -> recipe.test(stack));
     }
 
     @Nullable
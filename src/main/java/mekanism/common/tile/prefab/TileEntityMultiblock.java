@@ -241,6 +241,12 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
         return isMaster;
     }
 
+    @Override
+    public boolean tracksEnergyChanges() {
+        //Any energy we expose belongs to the multiblock
+        return false;
+    }
+
     @Nonnull
     @Override
     public CompoundNBT getReducedUpdateTag() {
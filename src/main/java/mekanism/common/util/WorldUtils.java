@@ -38,6 +38,7 @@ import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.ChunkStatus;
 import net.minecraft.world.chunk.IChunk;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.util.Constants.BlockFlags;
 import net.minecraftforge.fluids.FluidStack;
 import org.jetbrains.annotations.Contract;
@@ -65,6 +66,23 @@ public class WorldUtils {
         return true;
     }
 
+    /**
+     * Checks if a position is in a chunk that is ticking. On the client, or for worlds that aren't server worlds, this is the same as
+     * {@link #isBlockLoaded(IBlockReader, BlockPos)}.
+     *
+     * @param world world
+     * @param pos   position
+     *
+     * @return True if the position is in a ticking chunk.
+     */
+    @Contract("null, _ -> false")
+    public static boolean isBlockTicking(@Nullable World world, @Nonnull BlockPos pos) {
+        if (world instanceof ServerWorld) {
+            return World.isValid(pos) && ((ServerWorld) world).getChunkProvider().canTick(pos);
+        }
+        return isBlockLoaded(world, pos);
+    }
+
     /**
      * Gets the chunk in a given position or {@code null} if there is no world, the position is out of bounds or the chunk isn't loaded. Tries to retrieve it from our
      * cache and if it isn't found, tries to get it from the world and adds it to our cache.
@@ -0,0 +1,83 @@
+package mekanism.common.lib.distribution;
+
+import mekanism.api.math.FloatingLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the primitive arithmetic of FloatingLongSplitInfo")
+class FloatingLongSplitInfoTest {
+
+    /**
+     * Sends the given amount as the first of two targets, after which the share is the full remaining amount.
+     */
+    private static FloatingLong remainingAfterSending(FloatingLong toSplit, FloatingLong sent) {
+        FloatingLongSplitInfo splitInfo = new FloatingLongSplitInfo(toSplit, 2);
+        splitInfo.send(sent);
+        return splitInfo.getShareAmount();
+    }
+
+    private static FloatingLong totalSent(FloatingLong... amounts) {
+        FloatingLongSplitInfo splitInfo = new FloatingLongSplitInfo(FloatingLong.MAX_VALUE, amounts.length + 1);
+        for (FloatingLong amount : amounts) {
+            splitInfo.send(amount);
+        }
+        return splitInfo.getTotalSent();
+    }
+
+    @Test
+    @DisplayName("Test subtracting with a decimal borrow")
+    void testDecimalBorrow() {
+        FloatingLong toSplit = FloatingLong.create(10, (short) 1);
+        FloatingLong sent = FloatingLong.create(3, (short) 5_000);
+        Assertions.assertEquals(toSplit.copy().minusEqual(sent), remainingAfterSending(toSplit, sent));
+    }
+
+    @Test
+    @DisplayName("Test subtracting values above Long.MAX_VALUE")
+    void testUnsignedSubtract() {
+        FloatingLong toSplit = FloatingLong.create(-2, (short) 5_000);
+        FloatingLong sent = FloatingLong.create(Long.MIN_VALUE + 9, (short) 7_000);
+        Assertions.assertEquals(toSplit.copy().minusEqual(sent), remainingAfterSending(toSplit, sent));
+    }
+
+    @Test
+    @DisplayName("Test subtracting more than remains clamps at zero")
+    void testSubtractClamping() {
+        FloatingLong toSplit = FloatingLong.create(Long.MIN_VALUE, (short) 1);
+        FloatingLong sent = FloatingLong.create(Long.MIN_VALUE, (short) 2);
+        Assertions.assertEquals(toSplit.copy().minusEqual(sent), remainingAfterSending(toSplit, sent));
+        Assertions.assertEquals(FloatingLong.ZERO, remainingAfterSending(FloatingLong.create(5), FloatingLong.create(-1)));
+    }
+
+    @Test
+    @DisplayName("Test adding with a decimal carry")
+    void testDecimalCarry() {
+        FloatingLong a = FloatingLong.create(509_876, (short) 5_555);
+        FloatingLong b = FloatingLong.create(13_479, (short) 6_789);
+        Assertions.assertEquals(a.copy().plusEqual(b), totalSent(a, b));
+    }
+
+    @Test
+    @DisplayName("Test adding values above Long.MAX_VALUE")
+    void testUnsignedAdd() {
+        FloatingLong a = FloatingLong.create(Long.MAX_VALUE, (short) 1_000);
+        FloatingLong b = FloatingLong.create(Long.MAX_VALUE - 10, (short) 2_000);
+        Assertions.assertEquals(a.copy().plusEqual(b), totalSent(a, b));
+    }
+
+    @Test
+    @DisplayName("Test adding past the max value clamps at the max value")
+    void testAddClamping() {
+        FloatingLong a = FloatingLong.create(Long.MIN_VALUE + 5, (short) 6_000);
+        Assertions.assertEquals(a.copy().plusEqual(a), totalSent(a, a));
+        //Carrying the decimal into the max value
+        FloatingLong max = FloatingLong.create(-1, (short) 5_000);
+        FloatingLong decimal = FloatingLong.create(0, (short) 6_000);
+        Assertions.assertEquals(max.copy().plusEqual(decimal), totalSent(max, decimal));
+        //Wrapping around to the old value once the decimal carries
+        FloatingLong small = FloatingLong.create(5, (short) 5_000);
+        FloatingLong huge = FloatingLong.create(-1, (short) 5_000);
+        Assertions.assertEquals(small.copy().plusEqual(huge), totalSent(small, huge));
+    }
+}